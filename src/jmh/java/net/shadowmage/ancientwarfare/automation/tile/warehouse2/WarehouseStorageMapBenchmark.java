@@ -0,0 +1,162 @@
+package net.shadowmage.ancientwarfare.automation.tile.warehouse2;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.shadowmage.ancientwarfare.automation.container.ContainerWarehouseStorage;
+import net.shadowmage.ancientwarfare.benchmark.MinecraftBootstrap;
+import net.shadowmage.ancientwarfare.core.inventory.ItemQuantityMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WarehouseStorageMapBenchmark {
+	private static final int LOOKUPS = 500;
+
+	@Param({"8", "64"})
+	public int storageTiles;
+
+	//filters per filtered storage tile, every fourth tile is unfiltered
+	@Param({"1", "9"})
+	public int filtersPerTile;
+
+	private final List<ItemStack> lookups = new ArrayList<>();
+	private final List<StubStorageTile> tiles = new ArrayList<>();
+	private WarehouseStorageMap storageMap;
+
+	@Setup
+	public void setup() {
+		MinecraftBootstrap.init();
+		List<Item> items = new ArrayList<>();
+		Item.REGISTRY.forEach(items::add);
+		Random rng = new Random(1);
+		storageMap = new WarehouseStorageMap();
+		for (int i = 0; i < storageTiles; i++) {
+			List<WarehouseStorageFilter> filters = new ArrayList<>();
+			if (i % 4 != 0) {
+				for (int f = 0; f < filtersPerTile; f++) {
+					filters.add(new WarehouseStorageFilter(new ItemStack(items.get(rng.nextInt(items.size())))));
+				}
+			}
+			StubStorageTile tile = new StubStorageTile(filters);
+			tiles.add(tile);
+			storageMap.addStorageTile(tile);
+		}
+		for (int i = 0; i < LOOKUPS; i++) {
+			lookups.add(i % 2 == 0 ? new ItemStack(items.get(rng.nextInt(items.size()))) : new ItemStack(Items.IRON_INGOT));
+		}
+	}
+
+	@Benchmark
+	public void getDestinationsForItem(Blackhole blackhole) {
+		for (ItemStack stack : lookups) {
+			blackhole.consume(storageMap.getDestinations(stack));
+		}
+	}
+
+	@Benchmark
+	public List<IWarehouseStorageTile> getDestinations() {
+		return storageMap.getDestinations();
+	}
+
+	@Benchmark
+	public WarehouseStorageMap rebuild() {
+		WarehouseStorageMap map = new WarehouseStorageMap();
+		for (StubStorageTile tile : tiles) {
+			map.addStorageTile(tile);
+		}
+		return map;
+	}
+
+	/*
+	 * Storage tile that only carries filters, which is all the storage map looks at
+	 */
+	private static class StubStorageTile implements IWarehouseStorageTile {
+		private List<WarehouseStorageFilter> filters;
+
+		private StubStorageTile(List<WarehouseStorageFilter> filters) {
+			this.filters = filters;
+		}
+
+		@Override
+		public int getStorageAdditionSize() {
+			return 0;
+		}
+
+		@Override
+		public void onWarehouseInventoryUpdated(TileWarehouseBase warehouse) {
+		}
+
+		@Override
+		public List<WarehouseStorageFilter> getFilters() {
+			return filters;
+		}
+
+		@Override
+		public void setFilters(List<WarehouseStorageFilter> filters) {
+			this.filters = filters;
+		}
+
+		@Override
+		public void addItems(ItemQuantityMap map) {
+		}
+
+		@Override
+		public int getQuantityStored(ItemStack filter) {
+			return 0;
+		}
+
+		@Override
+		public int getAvailableSpaceFor(ItemStack filter) {
+			return 0;
+		}
+
+		@Override
+		public int extractItem(ItemStack filter, int amount) {
+			return 0;
+		}
+
+		@Override
+		public int insertItem(ItemStack filter, int amount) {
+			return 0;
+		}
+
+		@Override
+		public void addViewer(ContainerWarehouseStorage containerWarehouseStorage) {
+		}
+
+		@Override
+		public void removeViewer(ContainerWarehouseStorage containerWarehouseStorage) {
+		}
+
+		@Override
+		public void handleSlotClick(EntityPlayer player, ItemStack item, boolean isShiftClick, boolean isRightClick) {
+		}
+
+		@Override
+		public ItemStack tryAdd(ItemStack stack) {
+			return stack;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package net.shadowmage.ancientwarfare.benchmark;
+
+import net.minecraft.init.Bootstrap;
+
+/*
+ * Registers the vanilla blocks and items so benchmarks can build item stacks and block states without starting a game
+ */
+public final class MinecraftBootstrap {
+	private MinecraftBootstrap() {}
+
+	public static synchronized void init() {
+		if (!Bootstrap.isRegistered()) {
+			Bootstrap.register();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package net.shadowmage.ancientwarfare.core.inventory;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.shadowmage.ancientwarfare.benchmark.MinecraftBootstrap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemQuantityMapBenchmark {
+	private static final int OPERATIONS = 1000;
+
+	//number of distinct item types stored, like the contents of a small and a large warehouse
+	@Param({"50", "1000"})
+	public int distinctItems;
+
+	private final List<ItemStack> operationStacks = new ArrayList<>();
+	private ItemQuantityMap filledMap;
+
+	@Setup
+	public void setup() {
+		MinecraftBootstrap.init();
+		List<ItemStack> distinct = createDistinctStacks(distinctItems);
+		filledMap = new ItemQuantityMap();
+		for (ItemStack stack : distinct) {
+			filledMap.addCount(stack, 64);
+		}
+		//skewed access, a few item types are moved far more often than the rest
+		Random rng = new Random(1);
+		for (int i = 0; i < OPERATIONS; i++) {
+			double skewed = Math.pow(rng.nextDouble(), 3);
+			operationStacks.add(distinct.get((int) (skewed * distinct.size())).copy());
+		}
+	}
+
+	private static List<ItemStack> createDistinctStacks(int count) {
+		List<ItemStack> ret = new ArrayList<>();
+		List<Item> items = new ArrayList<>();
+		Item.REGISTRY.forEach(items::add);
+		int variant = 0;
+		while (ret.size() < count) {
+			for (Item item : items) {
+				if (ret.size() >= count) {
+					break;
+				}
+				ItemStack stack = new ItemStack(item, 1, variant % 4);
+				if (variant >= 4) {
+					//items differing only by tag, like named or enchanted ones
+					NBTTagCompound tag = new NBTTagCompound();
+					tag.setInteger("variant", variant);
+					stack.setTagCompound(tag);
+				}
+				ret.add(stack);
+			}
+			variant++;
+		}
+		return ret;
+	}
+
+	@Benchmark
+	public ItemQuantityMap addCount() {
+		ItemQuantityMap map = new ItemQuantityMap();
+		for (ItemStack stack : operationStacks) {
+			map.addCount(stack, stack.getCount());
+		}
+		return map;
+	}
+
+	@Benchmark
+	public void getCount(Blackhole blackhole) {
+		for (ItemStack stack : operationStacks) {
+			blackhole.consume(filledMap.getCount(stack));
+		}
+	}
+
+	@Benchmark
+	public void addAndDecrease() {
+		for (ItemStack stack : operationStacks) {
+			filledMap.addCount(stack, 2);
+			filledMap.decreaseCount(stack, 2);
+		}
+	}
+
+	@Benchmark
+	public int getTotalItemCount() {
+		return filledMap.getTotalItemCount();
+	}
+
+	@Benchmark
+	public NBTTagCompound writeToNBT() {
+		return filledMap.writeToNBT(new NBTTagCompound());
+	}
+}
@@ -0,0 +1,40 @@
+package net.shadowmage.ancientwarfare.core.util;
+
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockToolsBenchmark {
+	//template footprint, every position of one layer is rotated like it is when a template is built
+	@Param({"16", "64"})
+	public int size;
+
+	@Param({"1", "3"})
+	public int turns;
+
+	@Benchmark
+	public void rotateInArea(Blackhole blackhole) {
+		for (int x = 0; x < size; x++) {
+			for (int z = 0; z < size; z++) {
+				blackhole.consume(BlockTools.rotateInArea(new BlockPos(x, 0, z), size, size, turns));
+			}
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package net.shadowmage.ancientwarfare.core.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrigBenchmark {
+	private static final int TARGETS = 64;
+
+	@Param({"10", "40"})
+	public int maxIterations;
+
+	private final float[][] targets = new float[TARGETS][];
+
+	@Setup
+	public void setup() {
+		//vehicle firing solutions for targets within typical siege engine range
+		Random rng = new Random(1);
+		for (int i = 0; i < TARGETS; i++) {
+			targets[i] = new float[] {rng.nextFloat() * 120 - 60, rng.nextFloat() * 20 - 10, rng.nextFloat() * 120 - 60, 15 + rng.nextFloat() * 45};
+		}
+	}
+
+	@Benchmark
+	public void iterativeSpeedFinder(Blackhole blackhole) {
+		for (float[] target : targets) {
+			blackhole.consume(Trig.iterativeSpeedFinder(target[0], target[1], target[2], target[3], maxIterations, false));
+		}
+	}
+
+	@Benchmark
+	public void iterativeSpeedFinderRocket(Blackhole blackhole) {
+		for (float[] target : targets) {
+			blackhole.consume(Trig.iterativeSpeedFinder(target[0], target[1], target[2], target[3], maxIterations, true));
+		}
+	}
+}
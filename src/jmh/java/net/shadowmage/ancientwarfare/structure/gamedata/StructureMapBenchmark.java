@@ -0,0 +1,89 @@
+package net.shadowmage.ancientwarfare.structure.gamedata;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.shadowmage.ancientwarfare.structure.template.build.StructureBB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructureMapBenchmark {
+	//generated structures in the map, a long running server easily has tens of thousands
+	@Param({"1000", "20000"})
+	public int structures;
+
+	private StructureMap structureMap;
+	private NBTTagCompound savedMap;
+	private Random rng;
+
+	@Setup
+	public void setup() {
+		rng = new Random(1);
+		structureMap = new StructureMap("AWStructureMap");
+		for (int i = 0; i < structures; i++) {
+			addRandomStructure(structureMap);
+		}
+		savedMap = structureMap.writeToNBT(new NBTTagCompound());
+	}
+
+	private void addRandomStructure(StructureMap map) {
+		int cx = rng.nextInt(2000) - 1000;
+		int cz = rng.nextInt(2000) - 1000;
+		BlockPos min = new BlockPos(cx << 4, 64, cz << 4);
+		BlockPos max = min.add(8 + rng.nextInt(40), 10 + rng.nextInt(20), 8 + rng.nextInt(40));
+		map.setGeneratedAt(0, cx, cz, new StructureEntry(new StructureBB(min, max), "structure" + rng.nextInt(200), 1, cx, cz), false);
+	}
+
+	@Benchmark
+	public StructureMap readFromNBT() {
+		StructureMap map = new StructureMap("AWStructureMap");
+		map.readFromNBT(savedMap);
+		return map;
+	}
+
+	@Benchmark
+	public NBTTagCompound writeToNBT() {
+		return structureMap.writeToNBT(new NBTTagCompound());
+	}
+
+	/*
+	 * Autosave after a structure was generated, which is the common case on a running server
+	 */
+	@Benchmark
+	public NBTTagCompound addStructureAndWrite(FreshMap fresh) {
+		addRandomStructure(fresh.map);
+		return fresh.map.writeToNBT(new NBTTagCompound());
+	}
+
+	/*
+	 * Map of the benchmark's size restored before every invocation, so the structures added don't pile up
+	 */
+	@State(Scope.Thread)
+	public static class FreshMap {
+		private StructureMap map;
+
+		@Setup(Level.Invocation)
+		public void setup(StructureMapBenchmark benchmark) {
+			map = new StructureMap("AWStructureMap");
+			map.readFromNBT(benchmark.savedMap);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package net.shadowmage.ancientwarfare.structure.template.load;
+
+import net.minecraft.init.Blocks;
+import net.shadowmage.ancientwarfare.benchmark.MinecraftBootstrap;
+import net.shadowmage.ancientwarfare.structure.template.StructurePluginManager;
+import net.shadowmage.ancientwarfare.structure.template.plugin.defaultplugins.blockrules.TemplateRuleVanillaBlocks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateParserBenchmark {
+	private static final String[] BLOCK_NAMES = {"minecraft:stone", "minecraft:cobblestone", "minecraft:planks", "minecraft:log", "minecraft:glass",
+			"minecraft:stonebrick", "minecraft:brick_block", "minecraft:wool", "minecraft:sandstone", "minecraft:gravel"};
+
+	//horizontal size of the generated template, height is half of it
+	@Param({"16", "64"})
+	public int size;
+
+	@Param({"10", "100"})
+	public int rules;
+
+	private List<String> templateLines;
+
+	@Setup
+	public void setup() {
+		MinecraftBootstrap.init();
+		StructurePluginManager.INSTANCE.registerBlockHandler(TemplateRuleVanillaBlocks.PLUGIN_NAME, Blocks.STONE, TemplateRuleVanillaBlocks::new,
+				TemplateRuleVanillaBlocks::new);
+		templateLines = generateTemplate(size, size / 2, rules);
+	}
+
+	private static List<String> generateTemplate(int size, int height, int rules) {
+		List<String> lines = new ArrayList<>();
+		lines.add("header:");
+		lines.add("version=2.7");
+		lines.add("name=benchmark_template");
+		lines.add("mods=");
+		lines.add("size=" + size + "," + height + "," + size);
+		lines.add("offset=0,0,0");
+		lines.add(":endheader");
+		lines.add("validation:");
+		lines.add("type=ground");
+		lines.add("survival=false");
+		lines.add("worldGenEnabled=false");
+		lines.add("unique=false");
+		lines.add("preserveBlocks=false");
+		lines.add("selectionWeight=1");
+		lines.add("clusterValue=1");
+		lines.add("minDuplicateDistance=1");
+		lines.add("dimensionWhiteList=false");
+		lines.add("dimensionList=");
+		lines.add("biomeWhiteList=false");
+		lines.add("biomeList=");
+		lines.add("leveling=0");
+		lines.add("fill=0");
+		lines.add("border=0");
+		lines.add("blockSwap=false");
+		lines.add(":endvalidation");
+		for (int rule = 1; rule <= rules; rule++) {
+			lines.add("rule:");
+			lines.add("plugin=" + TemplateRuleVanillaBlocks.PLUGIN_NAME);
+			lines.add("number=" + rule);
+			lines.add("data:");
+			lines.add("JSON:{blockState:{blockName:\"" + BLOCK_NAMES[rule % BLOCK_NAMES.length] + "\"},buildPass:0}");
+			lines.add(":enddata");
+			lines.add(":endrule");
+		}
+		//mostly air with solid blocks spread over the layers, like a typical building
+		Random rng = new Random(1);
+		for (int y = 0; y < height; y++) {
+			lines.add("layer: " + y);
+			for (int z = 0; z < size; z++) {
+				StringJoiner row = new StringJoiner(",");
+				for (int x = 0; x < size; x++) {
+					row.add(rng.nextInt(3) == 0 ? Integer.toString(1 + rng.nextInt(rules)) : "0");
+				}
+				lines.add(row.toString());
+			}
+			lines.add(":endlayer");
+		}
+		return lines;
+	}
+
+	@Benchmark
+	public Object parseTemplate() {
+		return TemplateParser.INSTANCE.parseTemplate("benchmark_template.aws", templateLines);
+	}
+}
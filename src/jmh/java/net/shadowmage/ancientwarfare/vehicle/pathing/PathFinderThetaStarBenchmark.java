@@ -0,0 +1,114 @@
+package net.shadowmage.ancientwarfare.vehicle.pathing;
+
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathFinderThetaStarBenchmark {
+	private static final int GRID_SIZE = 128;
+	private static final int FLOOR_Y = 64;
+
+	//share of grid cells blocked by walls
+	@Param({"0.0", "0.25"})
+	public double obstacleDensity;
+
+	@Param({"20", "60"})
+	public int distance;
+
+	private GridWorldAccess gridWorld;
+	private PathFinderThetaStar pathFinder;
+	private List<Node> lastPath;
+
+	@Setup
+	public void setup() {
+		gridWorld = new GridWorldAccess(GRID_SIZE, obstacleDensity, new Random(1));
+		pathFinder = new PathFinderThetaStar();
+	}
+
+	@Benchmark
+	public List<Node> findPath() {
+		lastPath = null;
+		int start = (GRID_SIZE - distance) / 2;
+		//search bound by iterations only, so results don't depend on the machine being fast enough for the time limit
+		pathFinder.maxRunTime = Long.MAX_VALUE;
+		pathFinder.findPath(gridWorld, start, FLOOR_Y, start, new BlockPos(start + distance, FLOOR_Y, start + distance), 80, path -> lastPath = path, true);
+		while (pathFinder.isSearching) {
+			pathFinder.doSearchIterations(100);
+		}
+		return lastPath;
+	}
+
+	/*
+	 * Flat floor with single block wide walls, answers the path finder's queries from an array instead of a world
+	 */
+	private static class GridWorldAccess extends PathWorldAccess {
+		private final int size;
+		private final boolean[] blocked;
+
+		private GridWorldAccess(int size, double obstacleDensity, Random rng) {
+			super(null);
+			this.size = size;
+			blocked = new boolean[size * size];
+			for (int i = 0; i < blocked.length; i++) {
+				blocked[i] = rng.nextDouble() < obstacleDensity;
+			}
+			//keep the diagonal the searches run along open so start and goal are never blocked
+			for (int i = 0; i < size; i++) {
+				blocked[i * size + i] = false;
+			}
+		}
+
+		private boolean isBlocked(int x, int z) {
+			return x < 0 || z < 0 || x >= size || z >= size || blocked[x * size + z];
+		}
+
+		@Override
+		public boolean isWalkable(int x, int y, int z) {
+			return y == FLOOR_Y && !isBlocked(x, z);
+		}
+
+		@Override
+		public boolean isWalkable(int x, int y, int z, Node src) {
+			return isWalkable(x, y, z);
+		}
+
+		@Override
+		public boolean checkBlockBounds(int x, int y, int z) {
+			return y > FLOOR_Y + 1 || y == FLOOR_Y && !isBlocked(x, z);
+		}
+
+		@Override
+		public boolean isPartialBlock(int x, int y, int z) {
+			return false;
+		}
+
+		@Override
+		public boolean isDoor(int x, int y, int z) {
+			return false;
+		}
+
+		@Override
+		public int getTravelCost(int x, int y, int z) {
+			return 10;
+		}
+	}
+}
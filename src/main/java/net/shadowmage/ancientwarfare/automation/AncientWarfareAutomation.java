@@ -40,7 +40,9 @@ import net.shadowmage.ancientwarfare.automation.proxy.RFProxy;
 import net.shadowmage.ancientwarfare.automation.registry.CropFarmRegistry;
 import net.shadowmage.ancientwarfare.automation.registry.FruitFarmRegistry;
 import net.shadowmage.ancientwarfare.automation.registry.TreeFarmRegistry;
+import net.shadowmage.ancientwarfare.automation.tile.torque.multiblock.MultiblockUpdater;
 import net.shadowmage.ancientwarfare.automation.tile.warehouse2.WarehouseDebugger;
+import net.shadowmage.ancientwarfare.automation.tile.worksite.EntityRosterTracker;
 import net.shadowmage.ancientwarfare.core.AncientWarfareCore;
 import net.shadowmage.ancientwarfare.core.compat.CompatLoader;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
@@ -96,6 +98,8 @@ public class AncientWarfareAutomation {
 
 		MinecraftForge.EVENT_BUS.register(this);
 		MinecraftForge.EVENT_BUS.register(new WarehouseDebugger());
+		MinecraftForge.EVENT_BUS.register(MultiblockUpdater.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(EntityRosterTracker.INSTANCE);
 
 		ForgeChunkManager.setForcedChunkLoadingCallback(this, AWChunkLoader.INSTANCE);
 
@@ -28,6 +28,10 @@ public class AWAutomationStatics extends ModConfiguration {
 	//TODO config annotations
 	public static int conduitRenderID = -1;
 
+	public static int autoCraftingMaxCraftsPerAction = 8;
+
+	public static int quarryMaxBlocksPerAction = 4;
+
 	public static int fishFarmRescanTicks = 200;
 	public static int animalFarmRescanTicks = 200;
 
@@ -162,6 +166,9 @@ public class AWAutomationStatics extends ModConfiguration {
 		enable_energy_client_updates = config.getBoolean("enable_client_energy_animations", clientOptions, enable_energy_client_updates, "Enable client-side animation of power tiles.\nDisabling may improve rendering performance on low-end machines");
 		renderWorkBounds = config.get(clientOptions, "render_work_bounds", true);
 
+		autoCraftingMaxCraftsPerAction = config.get(serverOptions, "auto_crafting_max_crafts_per_action", autoCraftingMaxCraftsPerAction, "Maximum number of items the auto crafting station crafts in one work action if it has enough energy and resources for it.\n" + "Default = " + autoCraftingMaxCraftsPerAction + "\n" + "Each craft consumes the energy of one work action.").getInt();
+		quarryMaxBlocksPerAction = config.get(serverOptions, "quarry_max_blocks_per_action", quarryMaxBlocksPerAction, "Maximum number of blocks the quarry breaks in one work action if it has enough energy for it.\n" + "Default = " + quarryMaxBlocksPerAction + "\n" + "Each block consumes the energy of one work action.").getInt();
+
 		animal_farm_pickups = config.get(serverOptions, "animal_farm_pickups", animal_farm_pickups, "List of items that Animal Farms can pickup\n" + "Animal farms will periodically pickup any of these items detected (if they're not caught on-demand by the farmer culling animals).\n" + "Use the format modid:itemid[:itemDamage]").getStringList();
 	}
 
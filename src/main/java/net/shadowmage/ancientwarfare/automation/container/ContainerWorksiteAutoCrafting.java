@@ -48,7 +48,14 @@ public class ContainerWorksiteAutoCrafting extends ContainerTileBase<TileAutoCra
 			for (int x1 = 0; x1 < 9; x1++) {
 				x2 = x1 * 18 + 8;
 				slotNum = y1 * 9 + x1;
-				slot = new SlotItemHandler(tileEntity.resourceInventory, slotNum, x2, y2);
+				slot = new SlotItemHandler(tileEntity.resourceInventory, slotNum, x2, y2) {
+					@Override
+					public void onSlotChanged() {
+						super.onSlotChanged();
+						//container clicks grow and shrink slot stacks in place
+						tileEntity.refreshResourceSlot(getSlotIndex());
+					}
+				};
 				addSlotToContainer(slot);
 			}
 		}
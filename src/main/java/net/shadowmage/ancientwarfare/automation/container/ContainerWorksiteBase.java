@@ -5,6 +5,7 @@ import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.SlotItemHandler;
+import net.shadowmage.ancientwarfare.automation.tile.worksite.CountingItemStackHandler;
 import net.shadowmage.ancientwarfare.automation.tile.worksite.TileWorksiteBoundedInventory;
 import net.shadowmage.ancientwarfare.core.container.ContainerTileBase;
 
@@ -36,7 +37,16 @@ public class ContainerWorksiteBase<T extends TileWorksiteBoundedInventory> exten
 			if (yPos + 18 > maxY) {
 				maxY = yPos + 18;
 			}
-			SlotItemHandler slot = new SlotItemHandler(inventory, slotNum, xPos, yPos);
+			SlotItemHandler slot = new SlotItemHandler(inventory, slotNum, xPos, yPos) {
+				@Override
+				public void onSlotChanged() {
+					super.onSlotChanged();
+					//container clicks grow and shrink slot stacks in place
+					if (inventory instanceof CountingItemStackHandler) {
+						((CountingItemStackHandler) inventory).refreshSlot(getSlotIndex());
+					}
+				}
+			};
 			addSlotToContainer(slot);
 			tileEntitySlots++;
 		}
@@ -11,6 +11,8 @@ import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.shadowmage.ancientwarfare.automation.tile.TileMailbox;
+import net.shadowmage.ancientwarfare.core.metrics.AWMetrics;
+import net.shadowmage.ancientwarfare.core.metrics.Metric;
 import net.shadowmage.ancientwarfare.core.util.InventoryTools;
 import net.shadowmage.ancientwarfare.core.util.Trig;
 
@@ -23,6 +25,7 @@ import java.util.Iterator;
 import java.util.List;
 
 public class MailboxData extends WorldSavedData {
+	private static final Metric DELIVERY_METRIC = AWMetrics.group("mailbox").get("deliveries");
 	private MailboxSet publicMailboxes = new MailboxSet("public");
 	private HashMap<String, MailboxSet> privateMailboxes = new HashMap<>();
 
@@ -335,7 +338,11 @@ public class MailboxData extends WorldSavedData {
 					}
 					if (item.deliveryTime >= time)//find if item is deliverable to this box
 					{
+						int count = item.item.getCount();
 						stack = InventoryTools.mergeItemStack(box.receivedInventory, item.item);
+						if (stack.getCount() < count) {
+							DELIVERY_METRIC.add(count - stack.getCount());
+						}
 						if (stack.isEmpty()) {
 							it.remove();
 						}
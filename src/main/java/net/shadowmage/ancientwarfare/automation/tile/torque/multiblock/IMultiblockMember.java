@@ -0,0 +1,14 @@
+package net.shadowmage.ancientwarfare.automation.tile.torque.multiblock;
+
+import net.minecraft.util.math.BlockPos;
+
+import java.util.Set;
+
+public interface IMultiblockMember {
+	/*
+	 * Validates the shape of the component this block is part of and updates the controller of all of its members
+	 *
+	 * @return the positions of all members of the component
+	 */
+	Set<BlockPos> validateComponent();
+}
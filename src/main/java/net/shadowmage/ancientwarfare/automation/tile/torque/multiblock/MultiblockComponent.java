@@ -0,0 +1,140 @@
+package net.shadowmage.ancientwarfare.automation.tile.torque.multiblock;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Connected blocks of the same type and meta with their tiles, found with a single flood fill that also keeps track of the
+ * bounds of the component. As every member lies within the bounds the component is a full box exactly when it has as many
+ * members as the bounds have blocks, so the shape doesn't need a second pass over the box.
+ *
+ * The flood fill doesn't expand past the search radius, so when it was cut off the rest of the box is scanned for the
+ * blocks it didn't reach, same as BlockFinder.box did.
+ */
+public class MultiblockComponent<T extends TileEntity> {
+	private final Map<BlockPos, T> members = new LinkedHashMap<>();
+	private int minX;
+	private int minY;
+	private int minZ;
+	private int maxX;
+	private int maxY;
+	private int maxZ;
+
+	private MultiblockComponent(BlockPos start) {
+		minX = maxX = start.getX();
+		minY = maxY = start.getY();
+		minZ = maxZ = start.getZ();
+	}
+
+	public static <T extends TileEntity> MultiblockComponent<T> find(World world, BlockPos start, Class<T> tileClass, int maxRadius) {
+		MultiblockComponent<T> component = new MultiblockComponent<>(start);
+		IBlockState startState = world.getBlockState(start);
+		Block block = startState.getBlock();
+		int meta = block.getMetaFromState(startState);
+		double maxDistSq = (double) maxRadius * maxRadius;
+		Deque<BlockPos> open = new ArrayDeque<>();
+		component.tryAdd(world, start, tileClass);
+		open.add(start);
+		boolean cutOff = false;
+		while (!open.isEmpty()) {
+			BlockPos current = open.poll();
+			if (current.distanceSq(start) >= maxDistSq) {
+				cutOff = true;
+				continue;
+			}
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				BlockPos offsetPos = current.offset(facing);
+				if (component.members.containsKey(offsetPos)) {
+					continue;
+				}
+				IBlockState state = world.getBlockState(offsetPos);
+				if (state.getBlock() == block && block.getMetaFromState(state) == meta && component.tryAdd(world, offsetPos, tileClass)) {
+					open.add(offsetPos);
+				}
+			}
+		}
+		if (cutOff && !component.isFullBox()) {
+			component.addUnreachedBoxMembers(world, block, meta, tileClass);
+		}
+		return component;
+	}
+
+	/*
+	 * Adds the blocks of the box the flood fill didn't reach, only if they make the component a full box
+	 */
+	private void addUnreachedBoxMembers(World world, Block block, int meta, Class<T> tileClass) {
+		Map<BlockPos, T> unreached = new LinkedHashMap<>();
+		for (BlockPos pos : BlockPos.getAllInBox(minX, minY, minZ, maxX, maxY, maxZ)) {
+			if (members.containsKey(pos)) {
+				continue;
+			}
+			IBlockState state = world.getBlockState(pos);
+			TileEntity te = world.getTileEntity(pos);
+			if (state.getBlock() != block || block.getMetaFromState(state) != meta || !tileClass.isInstance(te)) {
+				return;
+			}
+			unreached.put(pos, tileClass.cast(te));
+		}
+		members.putAll(unreached);
+	}
+
+	private boolean tryAdd(World world, BlockPos pos, Class<T> tileClass) {
+		TileEntity te = world.getTileEntity(pos);
+		if (!tileClass.isInstance(te)) {
+			return false;
+		}
+		members.put(pos, tileClass.cast(te));
+		minX = Math.min(minX, pos.getX());
+		minY = Math.min(minY, pos.getY());
+		minZ = Math.min(minZ, pos.getZ());
+		maxX = Math.max(maxX, pos.getX());
+		maxY = Math.max(maxY, pos.getY());
+		maxZ = Math.max(maxZ, pos.getZ());
+		return true;
+	}
+
+	public boolean isFullBox() {
+		return members.size() == getSizeX() * getSizeY() * getSizeZ();
+	}
+
+	public int getSizeX() {
+		return maxX - minX + 1;
+	}
+
+	public int getSizeY() {
+		return maxY - minY + 1;
+	}
+
+	public int getSizeZ() {
+		return maxZ - minZ + 1;
+	}
+
+	public BlockPos getMin() {
+		return new BlockPos(minX, minY, minZ);
+	}
+
+	@Nullable
+	public T getMember(BlockPos pos) {
+		return members.get(pos);
+	}
+
+	public Collection<T> getMembers() {
+		return members.values();
+	}
+
+	public Set<BlockPos> getPositions() {
+		return members.keySet();
+	}
+}
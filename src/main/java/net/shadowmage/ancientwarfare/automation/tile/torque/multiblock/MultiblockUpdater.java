@@ -0,0 +1,66 @@
+package net.shadowmage.ancientwarfare.automation.tile.torque.multiblock;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Collects the positions of multiblock members that were placed or lost a neighbor during a tick and validates them at the
+ * end of the tick. Every component is validated once no matter how many of its blocks changed, blocks that are part of a
+ * component validated earlier in the same pass are skipped.
+ */
+public class MultiblockUpdater {
+	public static final MultiblockUpdater INSTANCE = new MultiblockUpdater();
+
+	private final Map<World, Set<BlockPos>> pendingPositions = new IdentityHashMap<>();
+
+	private MultiblockUpdater() {}
+
+	public void queueValidation(World world, BlockPos pos) {
+		if (!world.isRemote) {
+			pendingPositions.computeIfAbsent(world, w -> new LinkedHashSet<>()).add(pos);
+		}
+	}
+
+	public void queueNeighborValidation(World world, BlockPos pos) {
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			queueValidation(world, pos.offset(facing));
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != TickEvent.Phase.END || evt.world.isRemote) {
+			return;
+		}
+		Set<BlockPos> pending = pendingPositions.remove(evt.world);
+		if (pending == null) {
+			return;
+		}
+		Set<BlockPos> validated = new HashSet<>();
+		for (BlockPos pos : pending) {
+			if (validated.contains(pos) || !evt.world.isBlockLoaded(pos)) {
+				continue;
+			}
+			TileEntity te = evt.world.getTileEntity(pos);
+			if (te instanceof IMultiblockMember) {
+				validated.addAll(((IMultiblockMember) te).validateComponent());
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		pendingPositions.remove(evt.getWorld());
+	}
+}
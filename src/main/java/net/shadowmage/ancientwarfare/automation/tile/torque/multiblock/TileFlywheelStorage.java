@@ -1,7 +1,6 @@
 package net.shadowmage.ancientwarfare.automation.tile.torque.multiblock;
 
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
@@ -9,22 +8,20 @@ import net.shadowmage.ancientwarfare.automation.config.AWAutomationStatics;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
 import net.shadowmage.ancientwarfare.core.network.PacketBlockEvent;
 import net.shadowmage.ancientwarfare.core.tile.TileUpdatable;
-import net.shadowmage.ancientwarfare.core.util.BlockFinder;
 import net.shadowmage.ancientwarfare.core.util.BlockTools;
 import net.shadowmage.ancientwarfare.core.util.Trig;
-import net.shadowmage.ancientwarfare.core.util.WorldTools;
-import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nullable;
-import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 
-public class TileFlywheelStorage extends TileUpdatable implements ITickable {
+public class TileFlywheelStorage extends TileUpdatable implements ITickable, IMultiblockMember {
 
 	private static final String CONTROLLER_POS_TAG = "controllerPos";
 	private static final String IS_CONTROL_TAG = "isControl";
 	private static final String SET_WIDTH_TAG = "setWidth";
 	private static final String SET_HEIGHT_TAG = "setHeight";
+	private static final int MAX_SEARCH_RADIUS = 20;
 	public BlockPos controllerPos;
 	public boolean isControl = false;//set to true if this is the control block for a setup
 	public int setWidth;
@@ -125,16 +122,20 @@ public class TileFlywheelStorage extends TileUpdatable implements ITickable {
 	}
 
 	public void blockBroken() {
-		informNeighborsToValidate();
+		MultiblockUpdater.INSTANCE.queueNeighborValidation(world, pos);
 	}
 
 	public final void blockPlaced() {
-		validateSetup();
+		MultiblockUpdater.INSTANCE.queueValidation(world, pos);
 	}
 
 	private void setController(@Nullable BlockPos controllerPos) {
+		boolean control = controllerPos == null || controllerPos.equals(pos);
+		if (Objects.equals(this.controllerPos, controllerPos) && isControl == control) {
+			return;
+		}
 		this.controllerPos = controllerPos;
-		isControl = (controllerPos == null || controllerPos.equals(pos));
+		isControl = control;
 		if (controllerPos == null) {
 			setWidth = 1;
 			setHeight = 1;
@@ -145,37 +146,26 @@ public class TileFlywheelStorage extends TileUpdatable implements ITickable {
 		BlockTools.notifyBlockUpdate(this);
 	}
 
-	private boolean validateSetup() {
-		BlockFinder finder = new BlockFinder(world, getBlockType(), getBlockMetadata(), 30);
-		Pair<BlockPos, BlockPos> corners = finder.cross(pos);
-		int minX = corners.getLeft().getX();
-		int minY = corners.getLeft().getY();
-		int minZ = corners.getLeft().getZ();
-		int w = corners.getRight().getX() - minX + 1;
-		int h = corners.getRight().getY() - minY + 1;
-		int l = corners.getRight().getZ() - minZ + 1;
-		boolean valid = w == l && (w == 1 || w == 3) && finder.box(corners);
-		if (valid) {
-			int cx = w == 1 ? minX : minX + 1;
-			int cz = l == 1 ? minZ : minZ + 1;
-			setValidSetup(finder.getPositions(), cx, minY, cz, w, h, getBlockMetadata());
-		} else {
-			setInvalidSetup(finder.getAllConnectedBlocks(pos));
-		}
-		return valid;
-	}
-
-	private void setValidSetup(List<BlockPos> set, int cx, int cy, int cz, int size, int height, int type) {
-		controllerPos = new BlockPos(cx, cy, cz);
-		Optional<TileFlywheelStorage> te = WorldTools.getTile(world, controllerPos, TileFlywheelStorage.class);
-		if (te.isPresent()) {
-			te.get().setAsController(size, height, type);
-			for (BlockPos pos : set) {
-				WorldTools.getTile(world, pos, TileFlywheelStorage.class).ifPresent(t -> t.setController(controllerPos));
+	@Override
+	public Set<BlockPos> validateComponent() {
+		MultiblockComponent<TileFlywheelStorage> component = MultiblockComponent.find(world, pos, TileFlywheelStorage.class, MAX_SEARCH_RADIUS);
+		int w = component.getSizeX();
+		int h = component.getSizeY();
+		int l = component.getSizeZ();
+		boolean valid = w == l && (w == 1 || w == 3) && component.isFullBox();
+		BlockPos controllerPos = valid ? component.getMin().add(w / 2, 0, l / 2) : null;
+		TileFlywheelStorage controller = valid ? component.getMember(controllerPos) : null;
+		if (controller != null) {
+			controller.setAsController(w, h, getBlockMetadata());
+			for (TileFlywheelStorage member : component.getMembers()) {
+				member.setController(controllerPos);
 			}
 		} else {
-			controllerPos = null;
+			for (TileFlywheelStorage member : component.getMembers()) {
+				member.setController(null);
+			}
 		}
+		return component.getPositions();
 	}
 
 	private void setAsController(int size, int height, int type) {
@@ -200,19 +190,6 @@ public class TileFlywheelStorage extends TileUpdatable implements ITickable {
 		BlockTools.notifyBlockUpdate(this);
 	}
 
-	private void setInvalidSetup(List<BlockPos> set) {
-		setController(null);
-		for (BlockPos pos : set) {
-			WorldTools.getTile(world, pos, TileFlywheelStorage.class).ifPresent(t -> t.setController(null));
-		}
-	}
-
-	private void informNeighborsToValidate() {
-		for (EnumFacing d : EnumFacing.VALUES) {
-			WorldTools.getTile(world, pos.offset(d), TileFlywheelStorage.class).ifPresent(TileFlywheelStorage::validateSetup);
-		}
-	}
-
 	@Override
 	protected void writeUpdateNBT(NBTTagCompound tag) {
 		super.writeUpdateNBT(tag);
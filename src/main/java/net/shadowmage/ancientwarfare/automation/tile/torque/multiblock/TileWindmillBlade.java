@@ -1,29 +1,24 @@
 package net.shadowmage.ancientwarfare.automation.tile.torque.multiblock;
 
-import com.google.common.collect.Lists;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.shadowmage.ancientwarfare.automation.config.AWAutomationStatics;
-import net.shadowmage.ancientwarfare.automation.init.AWAutomationBlocks;
 import net.shadowmage.ancientwarfare.core.tile.TileUpdatable;
-import net.shadowmage.ancientwarfare.core.util.BlockFinder;
 import net.shadowmage.ancientwarfare.core.util.BlockTools;
 import net.shadowmage.ancientwarfare.core.util.Trig;
-import net.shadowmage.ancientwarfare.core.util.WorldTools;
-import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nullable;
-import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
-public class TileWindmillBlade extends TileUpdatable implements ITickable {
+public class TileWindmillBlade extends TileUpdatable implements ITickable, IMultiblockMember {
 
 	private static final String IS_CONTROL_TAG = "isControl";
 	private static final String CONTROL_POS_TAG = "controlPos";
 	private static final String DIRECTION_TAG = "direction";
+	private static final int MAX_SEARCH_RADIUS = 20;
 	private double bladeRpm = 20.d;
 	private double bladeRpt = bladeRpm * AWAutomationStatics.rpmToRpt;
 
@@ -90,47 +85,19 @@ public class TileWindmillBlade extends TileUpdatable implements ITickable {
 	}
 
 	public void blockPlaced() {
-		if (!world.isRemote)
-			validateSetup();
+		MultiblockUpdater.INSTANCE.queueValidation(world, pos);
 	}
 
 	public void blockBroken() {
-		if (!world.isRemote) {
-			if (isControl) {
-				int expand = (windmillSize - 1) / 2;
-				if (expand > 0) {
-					if (windmillDirection.getAxis() == EnumFacing.Axis.Z) {
-						for (int j = -expand; j < expand + 1; j++) {
-							for (int i = -expand; i < expand + 1; i++) {
-								WorldTools.getTile(world, pos.add(i, j, 0), TileWindmillBlade.class).ifPresent(t -> t.setController(null));
-							}
-						}
-					} else if (windmillDirection.getAxis() == EnumFacing.Axis.X) {
-						for (int j = -expand; j < expand + 1; j++) {
-							for (int i = -expand; i < expand + 1; i++) {
-								WorldTools.getTile(world, pos.add(0, j, i), TileWindmillBlade.class).ifPresent(t -> t.setController(null));
-							}
-						}
-					}
-				}
-				isControl = false;
-			} else if (controlPos != null) {
-				WorldTools.getTile(world, controlPos, TileWindmillBlade.class).ifPresent(TileWindmillBlade::validateSetup);
-				controlPos = null;
-			} else
-				informNeighborsToValidate();
-		}
+		MultiblockUpdater.INSTANCE.queueNeighborValidation(world, pos);
 	}
 
-	private boolean validateSetup() {
-		BlockFinder finder = new BlockFinder(world, getBlockType(), getBlockMetadata(), 9 * 9);
-		Pair<BlockPos, BlockPos> corners = finder.cross(pos);
-		int minX = corners.getLeft().getX();
-		int minY = corners.getLeft().getY();
-		int minZ = corners.getLeft().getZ();
-		int xSize = corners.getRight().getX() - minX + 1;
-		int ySize = corners.getRight().getY() - minY + 1;
-		int zSize = corners.getRight().getZ() - minZ + 1;
+	@Override
+	public Set<BlockPos> validateComponent() {
+		MultiblockComponent<TileWindmillBlade> component = MultiblockComponent.find(world, pos, TileWindmillBlade.class, MAX_SEARCH_RADIUS);
+		int xSize = component.getSizeX();
+		int ySize = component.getSizeY();
+		int zSize = component.getSizeZ();
 
         /*
 		 * if y size >= 5
@@ -140,66 +107,30 @@ public class TileWindmillBlade extends TileUpdatable implements ITickable {
          * and either x or z == y size (the other needs to be the same size as height)
          * and is full cube (all block spots filled) (will need to modify this check for those sizes with missing corner blocks, create bit mask 2d array to test for proper setup)
          */
-		boolean valid = ySize >= 5 && ySize % 2 == 1 && (zSize == 1 || xSize == 1) && (zSize == ySize || xSize == ySize) && finder.box(corners);
+		boolean valid = ySize >= 5 && ySize % 2 == 1 && (zSize == 1 || xSize == 1) && (zSize == ySize || xSize == ySize) && component.isFullBox();
+		TileWindmillBlade controller = null;
+		BlockPos controllerPos = null;
 		if (valid) {
 			/*
 			 * calculate the control block coordinates from the min coordinate and sizes
              */
-			int controlX;
-			int controlY;
-			int controlZ;
-
 			int halfSize = (ySize - 1) / 2;
-
-			controlY = minY + halfSize;//should be the center
-			if (xSize > 1)//widest on X axis
-			{
-				controlX = minX + halfSize;//should be the center
-				controlZ = minZ;//only 1 z-coordinate
-			} else//widest on Z axis
-			{
-				controlX = minX;//only 1 x-coordinate
-				controlZ = minZ + halfSize;//should be the center
+			BlockPos min = component.getMin();
+			//center on Y and on the wider one of X and Z
+			controllerPos = xSize > 1 ? min.add(halfSize, halfSize, 0) : min.add(0, halfSize, halfSize);
+			controller = component.getMember(controllerPos);
+		}
+		if (controller != null) {
+			controller.setAsController(xSize, ySize, zSize);
+			for (TileWindmillBlade member : component.getMembers()) {
+				member.setController(controllerPos);
 			}
-			setValidSetup(finder.getPositions(), controlX, controlY, controlZ, xSize, ySize, zSize);
 		} else {
-			finder.connect(corners.getLeft(), new BlockPos(xSize, ySize, zSize));
-			setInvalidSetup(getAllConnectedBlades());
-		}
-		return valid;
-	}
-
-	private List<BlockPos> getAllConnectedBlades() {
-		int maxRadius = 20;
-		List<BlockPos> connectedBlocks = Lists.newArrayList();
-		List<BlockPos> searchedPositions = Lists.newArrayList();
-		BlockPos currentPos = pos;
-
-		connectedBlocks.add(currentPos);
-		searchedPositions.add(currentPos);
-
-		getConnectedBlades(maxRadius, connectedBlocks, searchedPositions, currentPos);
-
-		return connectedBlocks;
-	}
-
-	private void getConnectedBlades(int maxRadius, List<BlockPos> connectedBlocks, List<BlockPos> searchedPositions, BlockPos currentPos) {
-		if (currentPos.getDistance(pos.getX(), pos.getY(), pos.getZ()) < maxRadius) {
-			for (EnumFacing facing : EnumFacing.VALUES) {
-				BlockPos offsetPos = currentPos.offset(facing);
-				if (!searchedPositions.contains(offsetPos) && world.getBlockState(offsetPos).getBlock() == AWAutomationBlocks.WINDMILL_BLADE) {
-					connectedBlocks.add(offsetPos);
-					searchedPositions.add(offsetPos);
-					getConnectedBlades(maxRadius, connectedBlocks, searchedPositions, offsetPos);
-				}
+			for (TileWindmillBlade member : component.getMembers()) {
+				member.setController(null);
 			}
 		}
-	}
-
-	private void informNeighborsToValidate() {
-		for (EnumFacing d : EnumFacing.VALUES) {
-			WorldTools.getTile(world, pos.offset(d), TileWindmillBlade.class).ifPresent(TileWindmillBlade::validateSetup);
-		}
+		return component.getPositions();
 	}
 
 	private void setController(@Nullable BlockPos pos) {
@@ -210,9 +141,11 @@ public class TileWindmillBlade extends TileUpdatable implements ITickable {
 			isControl = false;
 			controlPos = null;
 		} else {
-			if (!pos.equals(controlPos))
+			boolean control = pos.equals(this.pos);
+			if (!pos.equals(controlPos) || control != isControl)
 				dirty = true;
 			controlPos = pos;
+			isControl = control;
 		}
 		if (dirty) {
 			markDirty();
@@ -220,24 +153,6 @@ public class TileWindmillBlade extends TileUpdatable implements ITickable {
 		}
 	}
 
-	private void setInvalidSetup(List<BlockPos> set) {
-		for (BlockPos pos : set) {
-			WorldTools.getTile(world, pos, TileWindmillBlade.class).ifPresent(t -> t.setController(null));
-		}
-	}
-
-	private void setValidSetup(List<BlockPos> set, int cx, int cy, int cz, int xs, int ys, int zs) {
-		setController(new BlockPos(cx, cy, cz));
-		Optional<TileWindmillBlade> te = WorldTools.getTile(world, controlPos, TileWindmillBlade.class);
-		if (te.isPresent()) {
-			te.get().setAsController(xs, ys, zs);
-			for (BlockPos pos : set) {
-				WorldTools.getTile(world, pos, TileWindmillBlade.class).ifPresent(t -> t.setController(controlPos));
-			}
-		} else
-			setController(null);
-	}
-
 	private void setAsController(int xSize, int ySize, int zSize) {
 		windmillDirection = xSize == 1 ? EnumFacing.WEST : EnumFacing.NORTH;
 		windmillSize = ySize;
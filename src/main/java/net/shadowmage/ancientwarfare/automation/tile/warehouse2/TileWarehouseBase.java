@@ -15,6 +15,8 @@ import net.shadowmage.ancientwarfare.automation.tile.warehouse2.TileWarehouseInt
 import net.shadowmage.ancientwarfare.automation.tile.worksite.IWorksiteAction;
 import net.shadowmage.ancientwarfare.automation.tile.worksite.TileWorksiteBounded;
 import net.shadowmage.ancientwarfare.core.inventory.ItemQuantityMap;
+import net.shadowmage.ancientwarfare.core.metrics.AWMetrics;
+import net.shadowmage.ancientwarfare.core.metrics.Metric;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
 import net.shadowmage.ancientwarfare.core.util.BlockTools;
 import net.shadowmage.ancientwarfare.core.util.InventoryTools;
@@ -160,6 +162,7 @@ public abstract class TileWarehouseBase extends TileWorksiteBounded implements I
 				ItemStack filter = stack.copy();
 				filter.setCount(1);
 				changeCachedQuantity(filter, moved);
+				EMPTY_METRIC.add(moved);
 			}
 
 			toMove -= moved;
@@ -210,6 +213,7 @@ public abstract class TileWarehouseBase extends TileWorksiteBounded implements I
 					int moved = stack.isEmpty() ? countToTake : countToTake - stack.getCount();
 					source.extractItem(request.requestedItem, moved);
 					cachedItemMap.decreaseCount(request.requestedItem, moved);
+					FILL_METRIC.add(moved);
 					updateViewers();
 					remainingToTake -= moved;
 					if (remainingToTake <= 0) {
@@ -233,6 +237,8 @@ public abstract class TileWarehouseBase extends TileWorksiteBounded implements I
 		cachedItemMap.addAll(map);
 	}
 
+	private static final Metric EMPTY_METRIC = AWMetrics.group("warehouse").get("interface_empty");
+	private static final Metric FILL_METRIC = AWMetrics.group("warehouse").get("interface_fill");
 	private static final IWorksiteAction EMPTY_ACTION = e -> WorksiteImplementation.getEnergyPerActivation(e) / 4D;
 	private static final IWorksiteAction FILL_ACTION = e -> WorksiteImplementation.getEnergyPerActivation(e) / 4D;
 
@@ -0,0 +1,120 @@
+package net.shadowmage.ancientwarfare.automation.tile.worksite;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.ItemStackHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/*
+ * Item handler that keeps the item counts of a few categories (seeds, bonemeal, tools...) up to date as its slots change,
+ * so worksites can read them without scanning the inventory.
+ * Each slot remembers the count and categories it contributed, a slot change only removes the old contribution and adds
+ * the new one.
+ *
+ * Code that changes stacks of this handler in place (e.g. by using them up on an item use) has to call refreshSlot
+ * afterwards as the handler doesn't get notified of these changes.
+ */
+public class CountingItemStackHandler extends ItemStackHandler {
+	private static final int MAX_COUNTERS = 32;
+
+	private final List<Predicate<ItemStack>> filters = new ArrayList<>();
+	private int[] counts = new int[0];
+	private int[] slotCounts;
+	private int[] slotCounters;
+
+	public CountingItemStackHandler(int size) {
+		super(size);
+		slotCounts = new int[size];
+		slotCounters = new int[size];
+	}
+
+	/*
+	 * Registers a category, returns the counter id used to read its count
+	 */
+	public int addCounter(Predicate<ItemStack> filter) {
+		if (filters.size() >= MAX_COUNTERS) {
+			throw new IllegalStateException("Too many counters, max is " + MAX_COUNTERS);
+		}
+		filters.add(filter);
+		counts = Arrays.copyOf(counts, filters.size());
+		recount();
+		return filters.size() - 1;
+	}
+
+	public int getCount(int counter) {
+		return counts[counter];
+	}
+
+	/*
+	 * First slot with a stack of the category or -1 if there is none
+	 */
+	public int getFirstSlot(int counter) {
+		for (int slot = 0; slot < slotCounters.length; slot++) {
+			if ((slotCounters[slot] & (1 << counter)) != 0) {
+				return slot;
+			}
+		}
+		return -1;
+	}
+
+	public void refreshSlot(int slot) {
+		validateSlotIndex(slot);
+		removeSlotContribution(slot);
+		ItemStack stack = getStackInSlot(slot);
+		if (stack.isEmpty()) {
+			return;
+		}
+		int slotCount = stack.getCount();
+		int matchingCounters = 0;
+		for (int counter = 0; counter < filters.size(); counter++) {
+			if (filters.get(counter).test(stack)) {
+				matchingCounters |= 1 << counter;
+				counts[counter] += slotCount;
+			}
+		}
+		slotCounts[slot] = slotCount;
+		slotCounters[slot] = matchingCounters;
+	}
+
+	@Override
+	public void setSize(int size) {
+		super.setSize(size);
+		slotCounts = new int[size];
+		slotCounters = new int[size];
+		Arrays.fill(counts, 0);
+	}
+
+	@Override
+	protected void onContentsChanged(int slot) {
+		refreshSlot(slot);
+	}
+
+	@Override
+	protected void onLoad() {
+		recount();
+	}
+
+	private void recount() {
+		Arrays.fill(counts, 0);
+		Arrays.fill(slotCounts, 0);
+		Arrays.fill(slotCounters, 0);
+		for (int slot = 0; slot < getSlots(); slot++) {
+			refreshSlot(slot);
+		}
+	}
+
+	private void removeSlotContribution(int slot) {
+		int slotCount = slotCounts[slot];
+		int matchingCounters = slotCounters[slot];
+		for (int counter = 0; matchingCounters != 0; counter++, matchingCounters >>>= 1) {
+			if ((matchingCounters & 1) != 0) {
+				counts[counter] -= slotCount;
+			}
+		}
+		slotCounts[slot] = 0;
+		slotCounters[slot] = 0;
+	}
+}
@@ -0,0 +1,132 @@
+package net.shadowmage.ancientwarfare.automation.tile.worksite;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/*
+ * Entities of interest to a worksite that are in the chunks overlapping its work bounds, grouped by a key the worksite
+ * chooses (e.g. animal species). The roster is seeded with a single entity query when the bounds are set and is then kept
+ * up to date by EntityRosterTracker as entities enter chunks, so reading it doesn't query the world.
+ *
+ * Entities that died or were unloaded are dropped when the roster is read, the entities returned are always within the
+ * work bounds.
+ */
+public class EntityRoster<K> {
+	private final Function<Entity, K> classifier;
+	private final Map<K, Set<Entity>> entities = new HashMap<>();
+	@Nullable
+	private World world;
+	@Nullable
+	private AxisAlignedBB bounds;
+	private int minChunkX;
+	private int minChunkZ;
+	private int maxChunkX;
+	private int maxChunkZ;
+
+	/*
+	 * @param classifier group key of an entity, null for entities that are not tracked
+	 */
+	public EntityRoster(Function<Entity, K> classifier) {
+		this.classifier = classifier;
+	}
+
+	/*
+	 * (Re)binds the roster to the bounds, does nothing if they didn't change
+	 */
+	public void setBounds(World world, BlockPos min, BlockPos max) {
+		AxisAlignedBB newBounds = new AxisAlignedBB(min, max.add(1, 1, 1));
+		if (world == this.world && newBounds.equals(bounds)) {
+			return;
+		}
+		release();
+		this.world = world;
+		this.bounds = newBounds;
+		minChunkX = min.getX() >> 4;
+		minChunkZ = min.getZ() >> 4;
+		maxChunkX = max.getX() >> 4;
+		maxChunkZ = max.getZ() >> 4;
+		AxisAlignedBB chunkBounds = new AxisAlignedBB(minChunkX << 4, 0, minChunkZ << 4, (maxChunkX + 1) << 4, world.getHeight(), (maxChunkZ + 1) << 4);
+		for (Entity entity : world.getEntitiesWithinAABB(Entity.class, chunkBounds, entity -> classifier.apply(entity) != null)) {
+			offer(entity);
+		}
+		EntityRosterTracker.INSTANCE.register(world, this);
+	}
+
+	/*
+	 * Stops tracking, has to be called when the worksite is invalidated or unloaded
+	 */
+	public void release() {
+		if (world != null) {
+			EntityRosterTracker.INSTANCE.unregister(world, this);
+		}
+		world = null;
+		bounds = null;
+		entities.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T extends Entity> List<T> getEntities(K key) {
+		Set<Entity> group = entities.get(key);
+		if (group == null || world == null || bounds == null) {
+			return Collections.emptyList();
+		}
+		List<T> ret = new ArrayList<>();
+		Iterator<Entity> it = group.iterator();
+		while (it.hasNext()) {
+			Entity entity = it.next();
+			if (entity.isDead || world.getEntityByID(entity.getEntityId()) != entity) {
+				it.remove();
+			} else if (entity.getEntityBoundingBox().intersects(bounds)) {
+				ret.add((T) entity);
+			}
+		}
+		return ret;
+	}
+
+	int getMinChunkX() {
+		return minChunkX;
+	}
+
+	int getMinChunkZ() {
+		return minChunkZ;
+	}
+
+	int getMaxChunkX() {
+		return maxChunkX;
+	}
+
+	int getMaxChunkZ() {
+		return maxChunkZ;
+	}
+
+	boolean coversChunk(int chunkX, int chunkZ) {
+		return chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ;
+	}
+
+	void offer(Entity entity) {
+		K key = classifier.apply(entity);
+		if (key != null) {
+			entities.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(entity);
+		}
+	}
+
+	void remove(Entity entity) {
+		K key = classifier.apply(entity);
+		if (key != null && entities.containsKey(key)) {
+			entities.get(key).remove(entity);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package net.shadowmage.ancientwarfare.automation.tile.worksite;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Keeps entity rosters current. Entities are offered to the rosters covering the chunk they enter, which happens when they
+ * spawn, when their chunk is loaded and when they move to another chunk, and removed from the rosters of the chunk they
+ * left if the new chunk isn't covered by them.
+ */
+public class EntityRosterTracker {
+	public static final EntityRosterTracker INSTANCE = new EntityRosterTracker();
+
+	private final Map<World, Map<Long, List<EntityRoster<?>>>> rostersByChunk = new IdentityHashMap<>();
+
+	private EntityRosterTracker() {}
+
+	void register(World world, EntityRoster<?> roster) {
+		Map<Long, List<EntityRoster<?>>> chunks = rostersByChunk.computeIfAbsent(world, w -> new HashMap<>());
+		for (int x = roster.getMinChunkX(); x <= roster.getMaxChunkX(); x++) {
+			for (int z = roster.getMinChunkZ(); z <= roster.getMaxChunkZ(); z++) {
+				chunks.computeIfAbsent(ChunkPos.asLong(x, z), k -> new ArrayList<>()).add(roster);
+			}
+		}
+	}
+
+	void unregister(World world, EntityRoster<?> roster) {
+		Map<Long, List<EntityRoster<?>>> chunks = rostersByChunk.get(world);
+		if (chunks == null) {
+			return;
+		}
+		for (int x = roster.getMinChunkX(); x <= roster.getMaxChunkX(); x++) {
+			for (int z = roster.getMinChunkZ(); z <= roster.getMaxChunkZ(); z++) {
+				long key = ChunkPos.asLong(x, z);
+				List<EntityRoster<?>> rosters = chunks.get(key);
+				if (rosters != null && rosters.remove(roster) && rosters.isEmpty()) {
+					chunks.remove(key);
+				}
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onEnteringChunk(EntityEvent.EnteringChunk evt) {
+		Entity entity = evt.getEntity();
+		if (entity.world == null || entity.world.isRemote) {
+			return;
+		}
+		Map<Long, List<EntityRoster<?>>> chunks = rostersByChunk.get(entity.world);
+		if (chunks == null) {
+			return;
+		}
+		List<EntityRoster<?>> oldRosters = chunks.get(ChunkPos.asLong(evt.getOldChunkX(), evt.getOldChunkZ()));
+		if (oldRosters != null) {
+			for (EntityRoster<?> roster : oldRosters) {
+				if (!roster.coversChunk(evt.getNewChunkX(), evt.getNewChunkZ())) {
+					roster.remove(entity);
+				}
+			}
+		}
+		List<EntityRoster<?>> newRosters = chunks.get(ChunkPos.asLong(evt.getNewChunkX(), evt.getNewChunkZ()));
+		if (newRosters != null) {
+			for (EntityRoster<?> roster : newRosters) {
+				roster.offer(entity);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		rostersByChunk.remove(evt.getWorld());
+	}
+}
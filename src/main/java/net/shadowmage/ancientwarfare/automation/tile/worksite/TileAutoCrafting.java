@@ -12,7 +12,9 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
+import net.shadowmage.ancientwarfare.automation.config.AWAutomationStatics;
 import net.shadowmage.ancientwarfare.core.crafting.AWCraftingManager;
+import net.shadowmage.ancientwarfare.core.crafting.IngredientPlan;
 import net.shadowmage.ancientwarfare.core.interfaces.IWorkSite;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
 import net.shadowmage.ancientwarfare.core.tile.CraftingRecipeMemory;
@@ -28,16 +30,24 @@ public class TileAutoCrafting extends TileWorksiteBase {
 		@Override
 		protected void onContentsChanged(int slot) {
 			markDirty();
+			outputChanged = true;
 		}
 	};
 	public ItemStackHandler resourceInventory = new ItemStackHandler(18) {
 		@Override
 		protected void onContentsChanged(int slot) {
 			markDirty();
+			refreshResourceSlot(slot);
 		}
 	};
 
 	private boolean canHoldLastCheck = false;
+	private boolean outputChanged = true;
+	@Nullable
+	private IngredientPlan ingredientPlan = null;
+	private int planRecipeVersion = -1;
+	//tracked apart from planRecipeVersion as getNextAction recompiles the plan before updateWorksite runs
+	private int canHoldRecipeVersion = -1;
 
 	@Override
 	public void onBlockBroken(IBlockState state) {
@@ -48,7 +58,19 @@ public class TileAutoCrafting extends TileWorksiteBase {
 	}
 
 	public boolean tryCraftItem() {
-		if (canHold()) {
+		return tryCraftItems(1) > 0;
+	}
+
+	private int tryCraftItems(int maxCrafts) {
+		int crafted = 0;
+		while (crafted < maxCrafts && craftOnce()) {
+			crafted++;
+		}
+		return crafted;
+	}
+
+	private boolean craftOnce() {
+		if (canHold() && getIngredientPlan().getCraftableCount(1) > 0) {
 			NonNullList<ItemStack> reusableStacks = AWCraftingManager.getReusableStacks(craftingRecipeMemory.getRecipe(), craftingRecipeMemory.craftMatrix);
 			NonNullList<ItemStack> resources = InventoryTools.removeItems(AWCraftingManager.getRecipeInventoryMatch(craftingRecipeMemory.getRecipe(), craftingRecipeMemory.getCraftingStacks(),
 					new CombinedInvWrapper(resourceInventory, new ItemStackHandler(reusableStacks))), reusableStacks);
@@ -92,6 +114,8 @@ public class TileAutoCrafting extends TileWorksiteBase {
 		craftingRecipeMemory.readFromNBT(tag);
 		resourceInventory.deserializeNBT(tag.getCompoundTag("resourceInventory"));
 		outputInventory.deserializeNBT(tag.getCompoundTag("outputInventory"));
+		ingredientPlan = null;
+		outputChanged = true;
 	}
 
 	@Override
@@ -124,28 +148,65 @@ public class TileAutoCrafting extends TileWorksiteBase {
 		return true;
 	}
 
-	private static final CraftAction CRAFT_ACTION = new CraftAction();
-
 	private static class CraftAction implements IWorksiteAction {
+		private int crafts;
+
+		private CraftAction(int crafts) {
+			this.crafts = crafts;
+		}
+
 		@Override
 		public double getEnergyConsumed(double efficiencyBonusFactor) {
-			return IWorkSite.WorksiteImplementation.getEnergyPerActivation(efficiencyBonusFactor);
+			return crafts * IWorkSite.WorksiteImplementation.getEnergyPerActivation(efficiencyBonusFactor);
 		}
 	}
 
 	@Override
 	protected Optional<IWorksiteAction> getNextAction() {
-		return canHoldLastCheck && !craftingRecipeMemory.getRecipe().getRecipeOutput().isEmpty() ? Optional.of(CRAFT_ACTION) : Optional.empty();
+		if (!canHoldLastCheck || craftingRecipeMemory.getRecipe().getRecipeOutput().isEmpty()) {
+			return Optional.empty();
+		}
+		int crafts = getIngredientPlan().getCraftableCount(Math.max(1, AWAutomationStatics.autoCraftingMaxCraftsPerAction));
+		if (crafts < 1) {
+			return Optional.empty();
+		}
+		int affordableCrafts = (int) (getTorqueStored(null) / IWorkSite.WorksiteImplementation.getEnergyPerActivation(getEfficiencyBonusFactor()));
+		return Optional.of(new CraftAction(Math.max(1, Math.min(crafts, affordableCrafts))));
 	}
 
 	@Override
 	protected boolean processAction(IWorksiteAction action) {
-		return tryCraftItem();
+		CraftAction craftAction = (CraftAction) action;
+		//only charge energy for the crafts that actually happened
+		craftAction.crafts = tryCraftItems(craftAction.crafts);
+		return craftAction.crafts > 0;
 	}
 
 	@Override
 	protected void updateWorksite() {
-		canHoldLastCheck = canHold();
+		if (outputChanged || canHoldRecipeVersion != craftingRecipeMemory.getRecipeVersion()) {
+			outputChanged = false;
+			canHoldRecipeVersion = craftingRecipeMemory.getRecipeVersion();
+			canHoldLastCheck = canHold();
+		}
+	}
+
+	/*
+	 * Has to be called when a resource stack is changed in place (e.g. by container clicks) as the inventory doesn't get notified of these changes
+	 */
+	public void refreshResourceSlot(int slot) {
+		if (ingredientPlan != null) {
+			ingredientPlan.updateSlot(slot, resourceInventory.getStackInSlot(slot));
+		}
+	}
+
+	private IngredientPlan getIngredientPlan() {
+		if (ingredientPlan == null || planRecipeVersion != craftingRecipeMemory.getRecipeVersion()) {
+			planRecipeVersion = craftingRecipeMemory.getRecipeVersion();
+			NonNullList<ItemStack> reusableStacks = AWCraftingManager.getReusableStacks(craftingRecipeMemory.getRecipe(), craftingRecipeMemory.craftMatrix);
+			ingredientPlan = IngredientPlan.compile(craftingRecipeMemory.getRecipe(), reusableStacks, resourceInventory);
+		}
+		return ingredientPlan;
 	}
 
 	private boolean canHold() {
@@ -21,6 +21,8 @@ import net.shadowmage.ancientwarfare.core.interfaces.IInteractableTile;
 import net.shadowmage.ancientwarfare.core.interfaces.ITorque.TorqueCell;
 import net.shadowmage.ancientwarfare.core.interfaces.IWorkSite;
 import net.shadowmage.ancientwarfare.core.interfaces.IWorker;
+import net.shadowmage.ancientwarfare.core.metrics.AWMetrics;
+import net.shadowmage.ancientwarfare.core.metrics.MetricGroup;
 import net.shadowmage.ancientwarfare.core.owner.IOwnable;
 import net.shadowmage.ancientwarfare.core.owner.Owner;
 import net.shadowmage.ancientwarfare.core.tile.TileUpdatable;
@@ -41,6 +43,7 @@ public abstract class TileWorksiteBase extends TileUpdatable
 	private static final String UPGRADES_TAG = "upgrades";
 	private static final String ORIENTATION_TAG = "orientation";
 	private static final String ACTIVE_TAG = "active";
+	private static final MetricGroup METRICS = AWMetrics.group("worksite");
 
 	private Owner owner = Owner.EMPTY;
 
@@ -159,6 +162,7 @@ public abstract class TileWorksiteBase extends TileUpdatable
 		if (!hasWorld() || world.isRemote || world.getStrongPower(pos) != 0) {
 			return;
 		}
+		long start = AWMetrics.start();
 		if (workRetryDelay > 0) {
 			workRetryDelay--;
 		} else {
@@ -189,6 +193,11 @@ public abstract class TileWorksiteBase extends TileUpdatable
 		world.profiler.startSection("WorksiteBaseUpdate");
 		updateWorksite();
 		world.profiler.endSection();
+		METRICS.recordSince(getClass(), start);
+	}
+
+	protected final double getEfficiencyBonusFactor() {
+		return efficiencyBonusFactor;
 	}
 
 	private boolean checkIfActive() {
@@ -13,7 +13,6 @@ import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.IPlantable;
-import net.minecraftforge.items.ItemStackHandler;
 import net.shadowmage.ancientwarfare.core.block.BlockRotationHandler.RelativeSide;
 import net.shadowmage.ancientwarfare.core.entity.AWFakePlayer;
 import net.shadowmage.ancientwarfare.core.util.BlockTools;
@@ -26,7 +25,6 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Queue;
 
 public abstract class TileWorksiteFarm extends TileWorksiteBoundedInventory {
@@ -35,44 +33,29 @@ public abstract class TileWorksiteFarm extends TileWorksiteBoundedInventory {
 	public static final int DEFAULT_MISC_INVENTORY_SIZE = 3;
 	private byte[] targetMap = new byte[SIZE * SIZE];
 	private final Queue<BlockPos> blocksToUpdate = new LinkedList<>();
-	public final ItemStackHandler plantableInventory;
-	public final ItemStackHandler miscInventory;
-	protected int plantableCount;
-	protected int bonemealCount;
-
-	/*
-	 * flag should be set to true whenever updating inventory internally (e.g. harvesting blocks) to prevent
-	 * unnecessary inventory rescanning.  should be set back to false after blocks are added to inventory
-	 */
-	private boolean shouldCountResources;
+	public final CountingItemStackHandler plantableInventory;
+	public final CountingItemStackHandler miscInventory;
+	private final int plantableCounter;
+	private final int bonemealCounter;
 
 	public TileWorksiteFarm() {
 		super();
-		this.shouldCountResources = true;
-		plantableInventory = new ItemStackHandler(PLANTABLE_INVENTORY_SIZE) {
-			@Override
-			protected void onContentsChanged(int slot) {
-				shouldCountResources = true;
-			}
-
+		plantableInventory = new CountingItemStackHandler(PLANTABLE_INVENTORY_SIZE) {
 			@Nonnull
 			@Override
 			public ItemStack insertItem(int slot, @Nonnull ItemStack stack, boolean simulate) {
 				return isPlantable(stack) ? super.insertItem(slot, stack, simulate) : stack;
 			}
 		};
-		miscInventory = new ItemStackHandler(getMiscInventorySize()) {
-			@Override
-			protected void onContentsChanged(int slot) {
-				shouldCountResources = true;
-			}
-
+		miscInventory = new CountingItemStackHandler(getMiscInventorySize()) {
 			@Nonnull
 			@Override
 			public ItemStack insertItem(int slot, @Nonnull ItemStack stack, boolean simulate) {
 				return isMiscItem(stack) ? super.insertItem(slot, stack, simulate) : stack;
 			}
 		};
+		plantableCounter = plantableInventory.addCounter(this::isPlantable);
+		bonemealCounter = miscInventory.addCounter(this::isBonemeal);
 		setSideInventory(RelativeSide.FRONT, plantableInventory, RelativeSide.FRONT);
 		setSideInventory(RelativeSide.BOTTOM, miscInventory, RelativeSide.TOP);
 	}
@@ -278,22 +261,26 @@ public abstract class TileWorksiteFarm extends TileWorksiteBoundedInventory {
 		if (world.getWorldTime() % 20 == 0) {
 			pickupItems();
 		}
-		world.profiler.endStartSection("Count Resources");
-		if (shouldCountResources) {
-			countResources();
-			shouldCountResources = false;
-		}
 		world.profiler.endSection();
 	}
 
-	protected void countResources() {
-		plantableCount = InventoryTools.getCountOf(plantableInventory, this::isPlantable);
-		bonemealCount = InventoryTools.getCountOf(miscInventory, this::isBonemeal);
+	protected int getPlantableCount() {
+		return plantableInventory.getCount(plantableCounter);
+	}
+
+	protected int getBonemealCount() {
+		return miscInventory.getCount(bonemealCounter);
 	}
 
 	protected boolean fertilize(BlockPos pos) {
-		Optional<ItemStack> stack = InventoryTools.stream(miscInventory).filter(this::isBonemeal).findFirst();
-		if (stack.isPresent() && ItemDye.applyBonemeal(stack.get(), world, pos, AWFakePlayer.get(world), EnumHand.MAIN_HAND)) {
+		int slot = miscInventory.getFirstSlot(bonemealCounter);
+		if (slot < 0) {
+			return false;
+		}
+		boolean applied = ItemDye.applyBonemeal(miscInventory.getStackInSlot(slot), world, pos, AWFakePlayer.get(world), EnumHand.MAIN_HAND);
+		//bonemeal is used up in place
+		miscInventory.refreshSlot(slot);
+		if (applied) {
 			world.playEvent(2005, pos, 0);
 			return true;
 		}
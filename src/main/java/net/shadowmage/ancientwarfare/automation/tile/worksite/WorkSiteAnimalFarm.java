@@ -18,12 +18,10 @@ import net.minecraft.util.DamageSource;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
 import net.minecraft.world.World;
-import net.minecraftforge.items.ItemStackHandler;
 import net.shadowmage.ancientwarfare.automation.config.AWAutomationStatics;
 import net.shadowmage.ancientwarfare.core.block.BlockRotationHandler.RelativeSide;
 import net.shadowmage.ancientwarfare.core.entity.AWFakePlayer;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
-import net.shadowmage.ancientwarfare.core.util.EntityTools;
 import net.shadowmage.ancientwarfare.core.util.InventoryTools;
 import net.shadowmage.ancientwarfare.core.util.ItemWrapper;
 
@@ -37,20 +35,19 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 	private static final int FOOD_INVENTORY_SIZE = 3;
 	private static final int TOOL_INVENTORY_SIZE = 3;
 	private int workerRescanDelay;
-	private boolean shouldCountResources;
 
 	public int maxPigCount = 6;
 	public int maxCowCount = 6;
 	public int maxChickenCount = 6;
 	public int maxSheepCount = 6;
 
-	private int wheatCount;
-	private int bucketCount;
-	private int carrotCount;
-	private int potatoCount;
-	private int beetrootCount;
-	private int seedCount;
-	private int shearsSlot = -1;
+	private final int wheatCounter;
+	private final int bucketCounter;
+	private final int carrotCounter;
+	private final int potatoCounter;
+	private final int beetrootCounter;
+	private final int seedCounter;
+	private final int shearsCounter;
 
 	private List<EntityPair> pigsToBreed = new ArrayList<>();
 	private List<EntityPair> chickensToBreed = new ArrayList<>();
@@ -60,20 +57,25 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 	private List<Integer> sheepToShear = new ArrayList<>();
 	private List<Integer> entitiesToCull = new ArrayList<>();
 
+	private enum RosterGroup {
+		COWS, CHICKENS, SHEEP, PIGS, DROPS
+	}
+
+	private final EntityRoster<RosterGroup> roster = new EntityRoster<>(WorkSiteAnimalFarm::getRosterGroup);
+
 	private static final ArrayList<ItemWrapper> ANIMAL_DROPS = ItemWrapper.buildList("Animal Farm drops", AWAutomationStatics.animal_farm_pickups);
 
-	public final ItemStackHandler foodInventory;
-	public final ItemStackHandler toolInventory;
+	public final CountingItemStackHandler foodInventory;
+	public final CountingItemStackHandler toolInventory;
 
 	public WorkSiteAnimalFarm() {
 		super();
-		shouldCountResources = true;
 
-		foodInventory = new ItemStackHandler(FOOD_INVENTORY_SIZE) {
+		foodInventory = new CountingItemStackHandler(FOOD_INVENTORY_SIZE) {
 			@Override
 			protected void onContentsChanged(int slot) {
+				super.onContentsChanged(slot);
 				markDirty();
-				shouldCountResources = true;
 			}
 
 			@Nonnull
@@ -83,11 +85,11 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 			}
 		};
 
-		toolInventory = new ItemStackHandler(TOOL_INVENTORY_SIZE) {
+		toolInventory = new CountingItemStackHandler(TOOL_INVENTORY_SIZE) {
 			@Override
 			protected void onContentsChanged(int slot) {
+				super.onContentsChanged(slot);
 				markDirty();
-				shouldCountResources = true;
 			}
 
 			@Nonnull
@@ -97,6 +99,14 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 			}
 		};
 
+		carrotCounter = foodInventory.addCounter(s -> s.getItem() == Items.CARROT);
+		potatoCounter = foodInventory.addCounter(s -> s.getItem() == Items.POTATO);
+		beetrootCounter = foodInventory.addCounter(s -> s.getItem() == Items.BEETROOT);
+		seedCounter = foodInventory.addCounter(s -> s.getItem() == Items.WHEAT_SEEDS);
+		wheatCounter = foodInventory.addCounter(s -> s.getItem() == Items.WHEAT);
+		bucketCounter = toolInventory.addCounter(s -> s.getItem() == Items.BUCKET);
+		shearsCounter = toolInventory.addCounter(s -> s.getItem() instanceof ItemShears);
+
 		setSideInventory(RelativeSide.FRONT, foodInventory, RelativeSide.FRONT);
 		setSideInventory(RelativeSide.BOTTOM, toolInventory, RelativeSide.TOP);
 	}
@@ -115,27 +125,27 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 	}
 
 	private boolean canShearSheep() {
-		return shearsSlot >= 0 && !sheepToShear.isEmpty();
+		return toolInventory.getCount(shearsCounter) > 0 && !sheepToShear.isEmpty();
 	}
 
 	private boolean canMilkCow() {
-		return bucketCount > 0 && cowsToMilk > 0;
+		return toolInventory.getCount(bucketCounter) > 0 && cowsToMilk > 0;
 	}
 
 	private boolean canBreedSheep() {
-		return wheatCount > 1 && !sheepToBreed.isEmpty();
+		return foodInventory.getCount(wheatCounter) > 1 && !sheepToBreed.isEmpty();
 	}
 
 	private boolean canBreedCows() {
-		return wheatCount > 1 && !cowsToBreed.isEmpty();
+		return foodInventory.getCount(wheatCounter) > 1 && !cowsToBreed.isEmpty();
 	}
 
 	private boolean canBreedChicken() {
-		return seedCount > 1 && !chickensToBreed.isEmpty();
+		return foodInventory.getCount(seedCounter) > 1 && !chickensToBreed.isEmpty();
 	}
 
 	private boolean canBreedPigs() {
-		return (carrotCount > 1 && !pigsToBreed.isEmpty()) || (potatoCount > 1 && !pigsToBreed.isEmpty()) || (beetrootCount > 1 && !pigsToBreed.isEmpty());
+		return (foodInventory.getCount(carrotCounter) > 1 && !pigsToBreed.isEmpty()) || (foodInventory.getCount(potatoCounter) > 1 && !pigsToBreed.isEmpty()) || (foodInventory.getCount(beetrootCounter) > 1 && !pigsToBreed.isEmpty());
 	}
 
 	private boolean canCull() {
@@ -182,36 +192,30 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 			}
 		} else if (action == BREED_SHEEP_ACTION) {
 			if (tryBreeding(sheepToBreed)) {
-				wheatCount -= 2;
 				InventoryTools.removeItems(foodInventory, new ItemStack(Items.WHEAT), 2);
 				return true;
 			}
 		} else if (action == BREED_COWS_ACTION) {
 			if (tryBreeding(cowsToBreed)) {
-				wheatCount -= 2;
 				InventoryTools.removeItems(foodInventory, new ItemStack(Items.WHEAT), 2);
 				return true;
 			}
 		} else if (action == BREED_CHICKEN_ACTION) {
 			if (tryBreeding(chickensToBreed)) {
-				seedCount -= 2;
 				InventoryTools.removeItems(foodInventory, new ItemStack(Items.WHEAT_SEEDS), 2);
 				return true;
 			}
 		} else if (action == BREED_PIGS_ACTION) {
 			if (tryBreeding(pigsToBreed)){
-				if (carrotCount > 1) {
-					carrotCount -= 2;
+				if (foodInventory.getCount(carrotCounter) > 1) {
 					InventoryTools.removeItems(foodInventory, new ItemStack(Items.CARROT), 2);
 					return true;
 				}
-				else if (potatoCount > 1) {
-					potatoCount -= 2;
+				else if (foodInventory.getCount(potatoCounter) > 1) {
 					InventoryTools.removeItems(foodInventory, new ItemStack(Items.POTATO), 2);
 					return true;
 				}
-				else if (beetrootCount > 1) {
-					beetrootCount -= 2;
+				else if (foodInventory.getCount(beetrootCounter) > 1) {
 					InventoryTools.removeItems(foodInventory, new ItemStack(Items.BEETROOT), 2);
 					return true;
 				}
@@ -224,12 +228,7 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 
 	@Override
 	protected void updateWorksite() {
-		world.profiler.startSection("Count Resources");
-		if (shouldCountResources) {
-			countResources();
-			this.shouldCountResources = false;
-		}
-		world.profiler.endStartSection("Animal Rescan");
+		world.profiler.startSection("Animal Rescan");
 		if (workerRescanDelay-- <= 0) {
 			rescan();
 			workerRescanDelay = 200;
@@ -241,6 +240,18 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 		world.profiler.endSection();
 	}
 
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		roster.release();
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		roster.release();
+	}
+
 	@Override
 	public void onBlockBroken(IBlockState state) {
 		super.onBlockBroken(state);
@@ -248,16 +259,6 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 		InventoryTools.dropItemsInWorld(world, toolInventory, pos);
 	}
 
-	private void countResources() {
-		carrotCount = InventoryTools.getCountOf(foodInventory, s -> s.getItem() == Items.CARROT);
-		potatoCount = InventoryTools.getCountOf(foodInventory, s -> s.getItem() == Items.POTATO);
-		beetrootCount = InventoryTools.getCountOf(foodInventory, s -> s.getItem() == Items.BEETROOT);
-		seedCount = InventoryTools.getCountOf(foodInventory, s -> s.getItem() == Items.WHEAT_SEEDS);
-		wheatCount = InventoryTools.getCountOf(foodInventory, s -> s.getItem() == Items.WHEAT);
-		bucketCount = InventoryTools.getCountOf(toolInventory, s -> s.getItem() == Items.BUCKET);
-		shearsSlot = InventoryTools.findItemSlot(toolInventory, s -> s.getItem() instanceof ItemShears);
-	}
-
 	private void rescan() {
 		pigsToBreed.clear();
 		cowsToBreed.clear();
@@ -266,29 +267,31 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 		chickensToBreed.clear();
 		entitiesToCull.clear();
 
-		List<EntityAnimal> entityList = EntityTools.getEntitiesWithinBounds(world, EntityAnimal.class, getWorkBoundsMin(), getWorkBoundsMax());
-
-		List<EntityAnimal> cows = new ArrayList<>();
-		List<EntityAnimal> pigs = new ArrayList<>();
-		List<EntityAnimal> sheep = new ArrayList<>();
-		List<EntityAnimal> chickens = new ArrayList<>();
-
-		for (EntityAnimal animal : entityList) {
-			if (animal instanceof EntityCow) {
-				cows.add(animal);
-			} else if (animal instanceof EntityChicken) {
-				chickens.add(animal);
-			} else if (animal instanceof EntitySheep) {
-				sheep.add(animal);
-			} else if (animal instanceof EntityPig) {
-				pigs.add(animal);
-			}
-		}
+		updateRosterBounds();
+		scanForCows(roster.getEntities(RosterGroup.COWS));
+		scanForSheep(roster.getEntities(RosterGroup.SHEEP));
+		scanForAnimals(roster.getEntities(RosterGroup.CHICKENS), chickensToBreed, maxChickenCount);
+		scanForAnimals(roster.getEntities(RosterGroup.PIGS), pigsToBreed, maxPigCount);
+	}
+
+	private void updateRosterBounds() {
+		roster.setBounds(world, getWorkBoundsMin(), getWorkBoundsMax());
+	}
 
-		scanForCows(cows);
-		scanForSheep(sheep);
-		scanForAnimals(chickens, chickensToBreed, maxChickenCount);
-		scanForAnimals(pigs, pigsToBreed, maxPigCount);
+	@Nullable
+	private static RosterGroup getRosterGroup(Entity entity) {
+		if (entity instanceof EntityCow) {
+			return RosterGroup.COWS;
+		} else if (entity instanceof EntityChicken) {
+			return RosterGroup.CHICKENS;
+		} else if (entity instanceof EntitySheep) {
+			return RosterGroup.SHEEP;
+		} else if (entity instanceof EntityPig) {
+			return RosterGroup.PIGS;
+		} else if (entity instanceof EntityItem) {
+			return RosterGroup.DROPS;
+		}
+		return null;
 	}
 
 	private void scanForAnimals(List<EntityAnimal> animals, List<EntityPair> targets, int maxCount) {
@@ -382,6 +385,7 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 	}
 
 	private boolean tryShearing() {
+		int shearsSlot = toolInventory.getFirstSlot(shearsCounter);
 		if (shearsSlot < 0 || sheepToShear.isEmpty()) {
 			return false;
 		}
@@ -439,7 +443,8 @@ public class WorkSiteAnimalFarm extends TileWorksiteBoundedInventory {
 	}
 
 	private void pickupDrops() {
-		List<EntityItem> items = EntityTools.getEntitiesWithinBounds(world, EntityItem.class, getWorkBoundsMin(), getWorkBoundsMax());
+		updateRosterBounds();
+		List<EntityItem> items = roster.getEntities(RosterGroup.DROPS);
 		for (EntityItem item : items) {
 			ItemStack stack = item.getItem();
 			if (item.isEntityAlive() && !stack.isEmpty() && stack.getItem() != Items.AIR) {
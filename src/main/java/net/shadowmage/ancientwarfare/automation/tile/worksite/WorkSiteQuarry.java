@@ -9,14 +9,19 @@ import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.common.ForgeChunkManager;
+import net.shadowmage.ancientwarfare.automation.config.AWAutomationStatics;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
 import net.shadowmage.ancientwarfare.core.upgrade.WorksiteUpgrade;
 import net.shadowmage.ancientwarfare.core.util.BlockTools;
 import net.shadowmage.ancientwarfare.core.util.InventoryTools;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -29,8 +34,10 @@ public final class WorkSiteQuarry extends TileWorksiteBoundedInventory {
 	 * Current position within work bounds.
 	 * Incremented when work is processed.
 	 */
-	private BlockPos current = BlockPos.ORIGIN;//position within bounds that is the 'active' position
+	private final BlockPos.MutableBlockPos current = new BlockPos.MutableBlockPos();//position within bounds that is the 'active' position
 	private BlockPos validate = BlockPos.ORIGIN;
+	@Nullable
+	private Chunk scanChunk;
 
 	public WorkSiteQuarry() {
 		super();
@@ -59,8 +66,8 @@ public final class WorkSiteQuarry extends TileWorksiteBoundedInventory {
 	@Override
 	public void onBoundsAdjusted() {
 		offsetBounds();
-		current = new BlockPos(getWorkBoundsMin().getX(), getWorkBoundsMax().getY(), getWorkBoundsMin().getZ());
-		validate = current;
+		current.setPos(getWorkBoundsMin().getX(), getWorkBoundsMax().getY(), getWorkBoundsMin().getZ());
+		validate = current.toImmutable();
 	}
 
 	@Override
@@ -87,16 +94,31 @@ public final class WorkSiteQuarry extends TileWorksiteBoundedInventory {
 	@Override
 	public void addUpgrade(WorksiteUpgrade upgrade) {
 		super.addUpgrade(upgrade);
-		current = new BlockPos(getWorkBoundsMin().getX(), getWorkBoundsMax().getY(), getWorkBoundsMin().getZ());
-		validate = current;
+		current.setPos(getWorkBoundsMin().getX(), getWorkBoundsMax().getY(), getWorkBoundsMin().getZ());
+		validate = current.toImmutable();
 		this.finished = false;
 	}
 
-	private static final IWorksiteAction DIG_ACTION = WorksiteImplementation::getEnergyPerActivation;
+	private static class DigAction implements IWorksiteAction {
+		private int blocks;
+
+		private DigAction(int blocks) {
+			this.blocks = blocks;
+		}
+
+		@Override
+		public double getEnergyConsumed(double efficiencyBonusFactor) {
+			return blocks * WorksiteImplementation.getEnergyPerActivation(efficiencyBonusFactor);
+		}
+	}
 
 	@Override
 	protected Optional<IWorksiteAction> getNextAction() {
-		return !finished ? Optional.of(DIG_ACTION) : Optional.empty();
+		if (finished) {
+			return Optional.empty();
+		}
+		int affordableBlocks = (int) (getTorqueStored(null) / WorksiteImplementation.getEnergyPerActivation(getEfficiencyBonusFactor()));
+		return Optional.of(new DigAction(Math.max(1, Math.min(AWAutomationStatics.quarryMaxBlocksPerAction, affordableBlocks))));
 	}
 
 	@Override
@@ -109,63 +131,133 @@ public final class WorkSiteQuarry extends TileWorksiteBoundedInventory {
 		 * while the current position is invalid, increment to a valid one. generally the incremental scan
 		 * should have take care of this prior to processWork being called, but just in case...
 		 */
-		while (!canHarvest(current)) {
-			if (!incrementPosition()) {
-				/*
-				 * if no valid position was found, set finished, exit
-				 */
-				finished = true;
-				return false;
+		if (!findHarvestablePosition(true)) {
+			/*
+			 * if no valid position was found, set finished, exit
+			 */
+			finished = true;
+			return false;
+		}
+		/*
+		 * if made it this far, a valid position was found, collect the rest of the batch from the same chunk column so the
+		 * scan can be rewound to the first block if the drops of the whole batch don't fit
+		 */
+		DigAction digAction = (DigAction) action;
+		List<BlockPos> positions = new ArrayList<>();
+		List<NonNullList<ItemStack>> drops = new ArrayList<>();
+		NonNullList<ItemStack> batchDrops = NonNullList.create();
+		while (true) {
+			BlockPos harvestPos = current.toImmutable();
+			NonNullList<ItemStack> stacks = getDrops(harvestPos);
+			positions.add(harvestPos);
+			drops.add(stacks);
+			batchDrops.addAll(stacks);
+			if (positions.size() >= digAction.blocks || !incrementWithinChunk() || !findHarvestablePosition(false)) {
+				break;
 			}
 		}
+
+		if (positions.size() > 1 && !InventoryTools.insertItems(mainInventory, batchDrops, true).isEmpty()) {
+			current.setPos(positions.get(0));
+			positions.subList(1, positions.size()).clear();
+			batchDrops = drops.get(0);
+		}
+		if (positions.size() == 1 && !InventoryTools.insertItems(mainInventory, batchDrops, true).isEmpty()) {
+			return false;
+		}
+
 		/*
-		 * if made it this far, a valid position was found, break it and add blocks to inventory
+		 * break the batch and add the drops of the blocks that were actually broken to inventory in one go
 		 */
-		return harvestBlock(current);
+		NonNullList<ItemStack> harvested = NonNullList.create();
+		int broken = 0;
+		for (int i = 0; i < positions.size(); i++) {
+			BlockPos harvestPos = positions.get(i);
+			if (BlockTools.breakBlockNoDrops(world, harvestPos, world.getBlockState(harvestPos))) {
+				harvested.addAll(drops.get(i));
+				broken++;
+			}
+		}
+		InventoryTools.insertOrDropItems(mainInventory, harvested, world, positions.get(0));
+		//only charge energy for the blocks that were actually broken
+		digAction.blocks = broken;
+		return broken > 0;
 	}
 
-	private boolean harvestBlock(BlockPos current) {
-		IBlockState state = world.getBlockState(current);
+	private NonNullList<ItemStack> getDrops(BlockPos harvestPos) {
+		IBlockState state = world.getBlockState(harvestPos);
 		Block block = state.getBlock();
 		NonNullList<ItemStack> stacks = NonNullList.create();
+		block.getDrops(stacks, world, harvestPos, state, getFortune());
+		return stacks;
+	}
 
-		block.getDrops(stacks, world, current, state, getFortune());
+	/*
+	 * Scans from the current position to the next harvestable block. Blocks are read straight from the chunk sections
+	 * and sections that contain only air are skipped as a whole.
+	 * When not allowed to leave the chunk column the scan stops at the bottom of the column.
+	 */
+	private boolean findHarvestablePosition(boolean moveChunks) {
+		while (true) {
+			ExtendedBlockStorage section = getScanSection();
+			if (section == Chunk.NULL_BLOCK_STORAGE || section.isEmpty()) {
+				if (!skipSection() && (!moveChunks || !moveToStartOfNextChunk())) {
+					return false;
+				}
+			} else if (canHarvest(current, section.get(current.getX() & 15, current.getY() & 15, current.getZ() & 15))) {
+				return true;
+			} else if (!incrementWithinChunk() && (!moveChunks || !moveToStartOfNextChunk())) {
+				return false;
+			}
+		}
+	}
 
-		if (!InventoryTools.insertItems(mainInventory, stacks, true).isEmpty()) {
-			return false;
+	private ExtendedBlockStorage getScanSection() {
+		int chunkX = current.getX() >> 4;
+		int chunkZ = current.getZ() >> 4;
+		if (scanChunk == null || !scanChunk.isLoaded() || scanChunk.x != chunkX || scanChunk.z != chunkZ) {
+			scanChunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
 		}
+		ExtendedBlockStorage[] sections = scanChunk.getBlockStorageArray();
+		int sectionY = current.getY() >> 4;
+		return sectionY >= 0 && sectionY < sections.length ? sections[sectionY] : Chunk.NULL_BLOCK_STORAGE;
+	}
 
-		if (!BlockTools.breakBlockNoDrops(world, current, state)) {
+	/*
+	 * Moves to the start of the topmost layer below the current section, false if that is below the quarry
+	 */
+	private boolean skipSection() {
+		int y = (current.getY() >> 4 << 4) - 1;
+		if (y < getBottomY()) {
 			return false;
 		}
-
-		InventoryTools.insertOrDropItems(mainInventory, stacks, world, current);
-
+		current.setPos(Math.max(getWorkBoundsMin().getX(), getMinChunkX()), y, Math.max(getWorkBoundsMin().getZ(), getMinChunkZ()));
 		return true;
 	}
 
-	private boolean incrementPosition() {
-		if (finished) {
-			return false;
-		}
+	private boolean incrementWithinChunk() {
 		if (isMaxInChunk(current.getX()) || current.getX() >= getWorkBoundsMax().getX()) {
 			int startX = Math.max(getWorkBoundsMin().getX(), getMinChunkX());
 			if (isMaxInChunk(current.getZ()) || current.getZ() >= getWorkBoundsMax().getZ()) {
-				if (current.getY() <= (pos.getY() - (height + 1))) {
-					return moveToStartOfNextChunk();
+				if (current.getY() <= getBottomY()) {
+					return false;
 				} else {
 					int startZ = Math.max(getWorkBoundsMin().getZ(), getMinChunkZ());
-					current = new BlockPos(startX, current.getY() - 1, startZ);
+					current.setPos(startX, current.getY() - 1, startZ);
 				}
 			} else {
-				current = new BlockPos(startX, current.getY(), current.getZ() + 1);
+				current.setPos(startX, current.getY(), current.getZ() + 1);
 			}
 		} else {
-			current = current.east();
+			current.setPos(current.getX() + 1, current.getY(), current.getZ());
 		}
 		return true;
 	}
 
+	private int getBottomY() {
+		return pos.getY() - (height + 1);
+	}
+
 	private int getMinChunkZ() {
 		return (current.getZ() >> 4) * 16;
 	}
@@ -182,7 +274,7 @@ public final class WorkSiteQuarry extends TileWorksiteBoundedInventory {
 				return false;
 			}
 		}
-		current = new BlockPos(x, getWorkBoundsMax().getY(), z);
+		current.setPos(x, getWorkBoundsMax().getY(), z);
 
 		chunkLoadWorkBounds();
 
@@ -218,10 +310,9 @@ public final class WorkSiteQuarry extends TileWorksiteBoundedInventory {
 		return (coord & 15) == 15;
 	}
 
-	private boolean canHarvest(BlockPos harvestPos) {
-		IBlockState state = world.getBlockState(harvestPos);
+	private boolean canHarvest(BlockPos harvestPos, IBlockState state) {
 		Block block = state.getBlock();
-		if (world.isAirBlock(harvestPos) || state.getMaterial().isLiquid()) {
+		if (block.isAir(state, world, harvestPos) || state.getMaterial().isLiquid()) {
 			return false;
 		}
 		int harvestLevel = block.getHarvestLevel(state);
@@ -244,8 +335,8 @@ public final class WorkSiteQuarry extends TileWorksiteBoundedInventory {
 	private void initWorkSite() {
 		BlockPos boundsMin = getWorkBoundsMin();
 		setWorkBoundsMin(boundsMin.up(pos.getY() - height - boundsMin.getY()));
-		current = new BlockPos(getWorkBoundsMin().getX(), getWorkBoundsMax().getY(), getWorkBoundsMin().getZ());
-		validate = current;
+		current.setPos(getWorkBoundsMin().getX(), getWorkBoundsMax().getY(), getWorkBoundsMin().getZ());
+		validate = current.toImmutable();
 		BlockTools.notifyBlockUpdate(this);//resend work-bounds change
 	}
 
@@ -257,7 +348,7 @@ public final class WorkSiteQuarry extends TileWorksiteBoundedInventory {
 	@Override
 	public void readFromNBT(NBTTagCompound tag) {
 		super.readFromNBT(tag);
-		current = BlockPos.fromLong(tag.getLong("current"));
+		current.setPos(BlockPos.fromLong(tag.getLong("current")));
 		validate = BlockPos.fromLong(tag.getLong("validate"));
 		finished = tag.getBoolean("finished");
 		hasDoneInit = tag.getBoolean("init");
@@ -103,11 +103,11 @@ public class WorkSiteCropFarm extends TileWorksiteFarm {
 	}
 
 	private boolean hasToPlant() {
-		return (plantableCount > 0 && !blocksToPlant.isEmpty());
+		return (getPlantableCount() > 0 && !blocksToPlant.isEmpty());
 	}
 
 	private boolean hasToFertilize() {
-		return (bonemealCount > 0 && !blocksToFertilize.isEmpty());
+		return (getBonemealCount() > 0 && !blocksToFertilize.isEmpty());
 	}
 
 	private static final IWorksiteAction PLANT_ACTION = e -> WorksiteImplementation.getEnergyPerActivation(e) / 5D;
@@ -36,7 +36,7 @@ import java.util.Optional;
 import java.util.Set;
 
 public class WorkSiteTreeFarm extends TileWorksiteFarm {
-	private boolean hasShears;
+	private final int shearsCounter;
 	private final Set<BlockPos> blocksToShear = new LinkedHashSet<>();
 	private final Set<BlockPos> leafBlocksToChop = new LinkedHashSet<>();
 	private final Set<BlockPos> trunkBlocksToChop = new LinkedHashSet<>();
@@ -48,6 +48,7 @@ public class WorkSiteTreeFarm extends TileWorksiteFarm {
 	public WorkSiteTreeFarm() {
 		super();
 		inventoryForDrops = new CombinedInvWrapper(plantableInventory, mainInventory);
+		shearsCounter = miscInventory.addCounter(s -> s.getItem() == Items.SHEARS);
 	}
 
 	@Override
@@ -66,20 +67,18 @@ public class WorkSiteTreeFarm extends TileWorksiteFarm {
 		validateCollection(trunkBlocksToChop);
 		validateCollection(leafBlocksToChop);
 		validateCollection(blocksToPlant);
-		if (!hasShears) {
+		if (!hasShears()) {
 			blocksToShear.clear();
 		}
 		markDirty();
 	}
 
-	@Override
-	protected void countResources() {
-		super.countResources();
-		hasShears = InventoryTools.getCountOf(miscInventory, s -> s.getItem() == Items.SHEARS) > 0;
+	private boolean hasShears() {
+		return miscInventory.getCount(shearsCounter) > 0;
 	}
 
 	private boolean bonemealBlock() {
-		if (bonemealCount <= 0 || blocksToFertilize.isEmpty()) {
+		if (getBonemealCount() <= 0 || blocksToFertilize.isEmpty()) {
 			return false;
 		}
 
@@ -94,7 +93,7 @@ public class WorkSiteTreeFarm extends TileWorksiteFarm {
 	}
 
 	private boolean plant() {
-		if (plantableCount <= 0 || blocksToPlant.isEmpty()) {
+		if (getPlantableCount() <= 0 || blocksToPlant.isEmpty()) {
 			return false;
 		}
 
@@ -148,7 +147,7 @@ public class WorkSiteTreeFarm extends TileWorksiteFarm {
 	}
 
 	private boolean shearBlock() {
-		if (!hasShears || blocksToShear.isEmpty()) {
+		if (!hasShears() || blocksToShear.isEmpty()) {
 			return false;
 		}
 
@@ -183,7 +182,7 @@ public class WorkSiteTreeFarm extends TileWorksiteFarm {
 
 		ITree tree = TreeFarmRegistry.getTreeScanner(state).scanTree(world, basePos);
 		List<BlockPos> leafBlocks = tree.getLeafPositions();
-		if (hasShears) {
+		if (hasShears()) {
 			blocksToShear.addAll(leafBlocks);
 		} else {
 			leafBlocksToChop.addAll(leafBlocks);
@@ -278,15 +277,15 @@ public class WorkSiteTreeFarm extends TileWorksiteFarm {
 
 	@Override
 	protected Optional<IWorksiteAction> getNextAction() {
-		if (hasShears && !blocksToShear.isEmpty()) {
+		if (hasShears() && !blocksToShear.isEmpty()) {
 			return Optional.of(SHEAR_ACTION);
 		} else if (!leafBlocksToChop.isEmpty()) {
 			return Optional.of(CHOP_LEAF_ACTION);
 		} else if (!trunkBlocksToChop.isEmpty()) {
 			return Optional.of(CHOP_TRUNK_ACTION);
-		} else if (plantableCount > 0 && !blocksToPlant.isEmpty()) {
+		} else if (getPlantableCount() > 0 && !blocksToPlant.isEmpty()) {
 			return Optional.of(PLANT_ACTION);
-		} else if (bonemealCount > 0 && !blocksToFertilize.isEmpty()) {
+		} else if (getBonemealCount() > 0 && !blocksToFertilize.isEmpty()) {
 			return Optional.of(BONEMEAL_ACTION);
 		}
 		return Optional.empty();
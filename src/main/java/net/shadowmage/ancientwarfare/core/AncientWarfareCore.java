@@ -17,6 +17,7 @@ import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.shadowmage.ancientwarfare.core.command.CommandPerf;
 import net.shadowmage.ancientwarfare.core.command.CommandResearch;
 import net.shadowmage.ancientwarfare.core.command.CommandUtils;
 import net.shadowmage.ancientwarfare.core.compat.CompatLoader;
@@ -30,10 +31,14 @@ import net.shadowmage.ancientwarfare.core.container.ContainerResearchBook;
 import net.shadowmage.ancientwarfare.core.container.ContainerResearchStation;
 import net.shadowmage.ancientwarfare.core.crafting.AWCraftingManager;
 import net.shadowmage.ancientwarfare.core.datafixes.AWDataFixes;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
 import net.shadowmage.ancientwarfare.core.entity.AWFakePlayer;
+import net.shadowmage.ancientwarfare.core.gamedata.AWGameData;
 import net.shadowmage.ancientwarfare.core.init.AWCoreItems;
 import net.shadowmage.ancientwarfare.core.init.AWCoreLoot;
+import net.shadowmage.ancientwarfare.core.metrics.AWMetrics;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
+import net.shadowmage.ancientwarfare.core.owner.TeamRelationCache;
 import net.shadowmage.ancientwarfare.core.proxy.CommonProxyBase;
 import net.shadowmage.ancientwarfare.core.registry.RegistryLoader;
 import net.shadowmage.ancientwarfare.core.registry.ResearchRegistry;
@@ -64,6 +69,11 @@ public class AncientWarfareCore {
 		NetworkHandler.INSTANCE.registerNetwork();
 
 		MinecraftForge.EVENT_BUS.register(ResearchTracker.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(TeamRelationCache.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(LargeEntityIndex.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(AWGameData.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(AWMetrics.INSTANCE);
+		AWMetrics.setEnabled(AWCoreStatics.enableMetrics);
 		MinecraftForge.EVENT_BUS.register(this);
 		MinecraftForge.EVENT_BUS.register(this);
 
@@ -112,6 +122,9 @@ public class AncientWarfareCore {
 	public void serverStartingEvent(FMLServerStartingEvent evt) {
 		evt.registerServerCommand(new CommandResearch());
 		evt.registerServerCommand(new CommandUtils());
+		evt.registerServerCommand(new CommandPerf());
+		//recipes may have been replaced by other mods after load without changing the recipe count
+		AWCraftingManager.invalidateRecipeIndexes();
 	}
 
 	@SubscribeEvent
@@ -0,0 +1,101 @@
+package net.shadowmage.ancientwarfare.core.command;
+
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import net.shadowmage.ancientwarfare.core.metrics.AWMetrics;
+import net.shadowmage.ancientwarfare.core.metrics.MetricSnapshot;
+
+import java.io.File;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public class CommandPerf extends ParentCommand {
+	private static final String COMMAND_AW_PERF_USAGE = "command.aw.perf.usage";
+	private static final int MAX_SHOWN_METRICS = 15;
+
+	public CommandPerf() {
+		registerSubCommand(new ShowCommand());
+		registerSubCommand(new DumpCommand());
+		registerSubCommand(new SimpleSubCommand("reset", (server, sender, args) -> {
+			AWMetrics.reset();
+			sender.sendMessage(new TextComponentString("Metrics reset"));
+		}));
+		registerSubCommand(new SimpleSubCommand("enable", (server, sender, args) -> {
+			AWMetrics.setEnabled(true);
+			sender.sendMessage(new TextComponentString("Metrics enabled"));
+		}));
+		registerSubCommand(new SimpleSubCommand("disable", (server, sender, args) -> {
+			AWMetrics.setEnabled(false);
+			sender.sendMessage(new TextComponentString("Metrics disabled"));
+		}));
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+
+	@Override
+	public String getName() {
+		return "awperf";
+	}
+
+	@Override
+	public String getUsage(ICommandSender sender) {
+		return COMMAND_AW_PERF_USAGE;
+	}
+
+	private static class ShowCommand implements ISubCommand {
+		@Override
+		public String getName() {
+			return "show";
+		}
+
+		@Override
+		public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+			List<MetricSnapshot> snapshots = AWMetrics.getSnapshots().stream()
+					.filter(s -> args.length == 0 || s.category.equalsIgnoreCase(args[0]))
+					.sorted(Comparator.<MetricSnapshot>comparingLong(s -> s.totalNanos).thenComparingLong(s -> s.count).reversed())
+					.limit(MAX_SHOWN_METRICS).collect(Collectors.toList());
+			if (!AWMetrics.isEnabled()) {
+				sender.sendMessage(new TextComponentString("Metrics are disabled, use /awperf enable to record them"));
+			}
+			for (MetricSnapshot s : snapshots) {
+				sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "%s %s: count %d, amount %d, total %.1fms, avg %.1fus, max %dus, p99 <%dus",
+						s.category, s.name, s.count, s.amount, s.getTotalMillis(), s.getAverageMicros(), s.maxNanos / 1000, s.p99Micros)));
+			}
+		}
+
+		@Override
+		public int getMaxArgs() {
+			return 1;
+		}
+	}
+
+	private static class DumpCommand implements ISubCommand {
+		@Override
+		public String getName() {
+			return "dump";
+		}
+
+		@Override
+		public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+			String format = args.length > 0 ? args[0].toLowerCase(Locale.ENGLISH) : AWMetrics.FORMAT_CSV;
+			if (!format.equals(AWMetrics.FORMAT_CSV) && !format.equals(AWMetrics.FORMAT_JSON)) {
+				throw new WrongUsageException(COMMAND_AW_PERF_USAGE);
+			}
+			File file = AWMetrics.dump(format);
+			sender.sendMessage(new TextComponentString(file != null ? "Metrics exported to " + file.getAbsoluteFile() : "Unable to export metrics, see log"));
+		}
+
+		@Override
+		public int getMaxArgs() {
+			return 1;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package net.shadowmage.ancientwarfare.core.compat.ftb;
 
+import net.minecraftforge.common.MinecraftForge;
 import net.shadowmage.ancientwarfare.core.compat.ICompat;
 import net.shadowmage.ancientwarfare.core.owner.Owner;
 
@@ -13,5 +14,6 @@ public class FTBCompat implements ICompat {
 	@Override
 	public void init() {
 		Owner.setTeamViewer(new FTBTeamViewer());
+		MinecraftForge.EVENT_BUS.register(new FTBTeamEventHandler());
 	}
 }
@@ -0,0 +1,13 @@
+package net.shadowmage.ancientwarfare.core.compat.ftb;
+
+import com.feed_the_beast.ftblib.events.team.ForgeTeamEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.shadowmage.ancientwarfare.core.owner.TeamRelationCache;
+
+public class FTBTeamEventHandler {
+	@SubscribeEvent
+	public void onTeamEvent(ForgeTeamEvent evt) {
+		//any team creation, deletion, membership or ally change may affect cached owner relations
+		TeamRelationCache.INSTANCE.invalidate();
+	}
+}
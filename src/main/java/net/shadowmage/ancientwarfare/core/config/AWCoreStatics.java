@@ -38,6 +38,9 @@ public class AWCoreStatics extends ModConfiguration {
 	public static boolean fireBlockBreakEvents = true;
 	public static boolean includeResearchInChests = true;
 	public static double energyPerWorkUnit = 50D;
+	public static boolean enableMetrics = false;
+	public static int metricsDumpInterval = 0;
+	public static String metricsDumpFormat = "csv";
 
 	public AWCoreStatics(String modid) {
 		super(modid);
@@ -56,6 +59,9 @@ public class AWCoreStatics extends ModConfiguration {
 		fireBlockBreakEvents = config.getBoolean("fire_block_break_events", serverOptions, fireBlockBreakEvents, "Fire Block Break Events If set to false, block-break-events will not be posted for _any_ operations\n" + "effectively negating any block-protection mods/mechanims in place on the server.\n" + "If left at true, block-break events will be posted for any automation or vehicles\n" + "which are changing blocks in the world.  Most will use a reference to their owners-name\n" + "for permissions systems.");
 		includeResearchInChests = config.getBoolean("include_research_in_chests", serverOptions, includeResearchInChests, "Include Research In Dungeon Loot Chests\n" + "If set to true, Research Note items will be added to dungeon-chest loot tables.\n" + "If set to false, no research will be added.\n" + "This is the global setting.  Individual research may be toggled in the Research\n" + "section of the config file.");
 		energyPerWorkUnit = config.get(serverOptions, "energy_per_work_unit", energyPerWorkUnit, "Energy Per Work Unit\nDefault = 50\n" + "How much Torque energy is generated per worker work tick.\n" + "This is the base number and is further adjusted per worker by worker effectiveness.\n" + "Setting to 0 or below effectively disables  workers.").getDouble();
+		enableMetrics = config.getBoolean("enable_metrics", serverOptions, enableMetrics, "Enable Performance Metrics\n" + "If set to true, worksites, npcs, world gen and logistics record how often they run and how long it takes.\n" + "Metrics can be viewed with /awperf and toggled at runtime with /awperf enable|disable.");
+		metricsDumpInterval = config.get(serverOptions, "metrics_dump_interval", metricsDumpInterval, "Metrics Dump Interval\nDefault = 0\n" + "Seconds between automatic dumps of the performance metrics to config/ancientwarfare/metrics.\n" + "Set to 0 to only dump through /awperf dump.").getInt();
+		metricsDumpFormat = config.getString("metrics_dump_format", serverOptions, metricsDumpFormat, "Format of automatic metrics dumps, csv or json.", new String[] {"csv", "json"});
 
         /*
 		 * client options
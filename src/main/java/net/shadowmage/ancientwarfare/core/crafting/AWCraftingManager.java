@@ -17,11 +17,13 @@ import net.minecraft.util.JsonUtils;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.crafting.CraftingHelper;
 import net.minecraftforge.common.crafting.IIngredientFactory;
 import net.minecraftforge.common.crafting.JsonContext;
 import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.common.ModContainer;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 import net.minecraftforge.fml.relauncher.ReflectionHelper;
 import net.minecraftforge.items.IItemHandler;
@@ -71,8 +73,20 @@ public class AWCraftingManager {
 
 	private static final IForgeRegistry<ResearchRecipeBase> RESEARCH_RECIPES = (new RegistryBuilder<ResearchRecipeBase>()).setName(new ResourceLocation(AncientWarfareCore.MOD_ID, "research_recipes")).setType(ResearchRecipeBase.class).setMaxID(Integer.MAX_VALUE >> 5).disableSaving().allowModification().create();
 
+	private static final RecipeIndex<ResearchRecipeBase> RESEARCH_RECIPE_INDEX = new RecipeIndex<>(() -> RESEARCH_RECIPES,
+			() -> RESEARCH_RECIPES.getValuesCollection().size(), ResearchRecipeBase::getIngredients);
+	private static final RecipeIndex<IRecipe> REGULAR_RECIPE_INDEX = new RecipeIndex<>(() -> ForgeRegistries.RECIPES,
+			() -> ForgeRegistries.RECIPES.getValuesCollection().size(), IRecipe::getIngredients);
+
 	public static void init() {
-		//noop - just call this so that the static final gets initialized at proper time
+		//called so that the static final gets initialized at proper time, the ore listener is registered only once the indexes exist
+		MinecraftForge.EVENT_BUS.register(AWCraftingManager.class);
+	}
+
+	@SubscribeEvent
+	public static void onOreRegister(OreDictionary.OreRegisterEvent evt) {
+		//ore ingredients are indexed by the items registered for their ore name
+		invalidateRecipeIndexes();
 	}
 
 	private static List<ICraftingRecipe> findMatchingResearchRecipes(InventoryCrafting inventory, World world, String playerName) {
@@ -84,8 +98,8 @@ public class AWCraftingManager {
 		List<ICraftingRecipe> ret = new ArrayList<>();
 		if (world == null)
 			return ret;
-		for (ResearchRecipeBase recipe : RESEARCH_RECIPES) {
-			if (recipe.matches(inventory, world) && (!checkPlayerResearch || canPlayerCraft(recipe, world, playerName))) {
+		for (ResearchRecipeBase recipe : RESEARCH_RECIPE_INDEX.findMatches(inventory, (r, inv) -> r.matches(inv, world))) {
+			if (!checkPlayerResearch || canPlayerCraft(recipe, world, playerName)) {
 				ret.add(new ResearchCraftingWrapper(recipe));
 			}
 		}
@@ -97,10 +111,8 @@ public class AWCraftingManager {
 		if (world == null) {
 			return ret;
 		}
-		for (IRecipe recipe : ForgeRegistries.RECIPES) {
-			if (recipe.matches(inventory, world)) {
-				ret.add(new RegularCraftingWrapper(recipe));
-			}
+		for (IRecipe recipe : REGULAR_RECIPE_INDEX.findMatches(inventory, (r, inv) -> r.matches(inv, world))) {
+			ret.add(new RegularCraftingWrapper(recipe));
 		}
 		return ret;
 	}
@@ -166,6 +178,15 @@ public class AWCraftingManager {
 		Loader.instance().getActiveModList().forEach(m -> AWCraftingManager.loadRecipes(m, m.getSource(), "assets/" + m.getModId() + "/research_recipes"));
 
 		Loader.instance().setActiveModContainer(awModContainer);
+		invalidateRecipeIndexes();
+	}
+
+	/*
+	 * Has to be called when recipes are replaced or ore dictionary entries are added, changes of the recipe count are picked up by the indexes
+	 */
+	public static void invalidateRecipeIndexes() {
+		RESEARCH_RECIPE_INDEX.invalidate();
+		REGULAR_RECIPE_INDEX.invalidate();
 	}
 
 	public static void registerIngredients() {
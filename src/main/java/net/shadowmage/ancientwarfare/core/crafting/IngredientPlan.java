@@ -0,0 +1,126 @@
+package net.shadowmage.ancientwarfare.core.crafting;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraftforge.items.IItemHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Recipe ingredients compiled once per recipe selection into a list of requirements (ingredient + count needed per
+ * craft) with per slot availability of a resource inventory that gets updated from inventory change callbacks.
+ * Ingredient instances shared by several recipe slots are consolidated into one requirement.
+ *
+ * If a resource stack matches more than one requirement the availability can't be determined without doing the full
+ * inventory match, so the plan reports itself as ambiguous and callers need to fall back to matching.
+ */
+public class IngredientPlan {
+	public static final IngredientPlan EMPTY = new IngredientPlan(new ArrayList<>(), new int[0], 0);
+
+	private final List<Ingredient> requirements;
+	private final int[] countsPerCraft;
+	private final long[] available;
+	private final int[][] slotCounts;
+	private final boolean[] slotAmbiguous;
+	private int ambiguousSlots = 0;
+
+	private IngredientPlan(List<Ingredient> requirements, int[] countsPerCraft, int inventorySize) {
+		this.requirements = requirements;
+		this.countsPerCraft = countsPerCraft;
+		available = new long[requirements.size()];
+		slotCounts = new int[inventorySize][requirements.size()];
+		slotAmbiguous = new boolean[inventorySize];
+	}
+
+	public static IngredientPlan compile(ICraftingRecipe recipe, List<ItemStack> alwaysAvailableStacks, IItemHandler inventory) {
+		if (!recipe.isValid()) {
+			return EMPTY;
+		}
+		List<Ingredient> requirements = new ArrayList<>();
+		List<Integer> counts = new ArrayList<>();
+		for (Ingredient ingredient : recipe.getIngredients()) {
+			if (ingredient.apply(ItemStack.EMPTY)) {
+				continue;
+			}
+			int count = ingredient instanceof IIngredientCount ? ((IIngredientCount) ingredient).getCount() : 1;
+			int index = indexOfInstance(requirements, ingredient);
+			if (index < 0) {
+				requirements.add(ingredient);
+				counts.add(count);
+			} else {
+				counts.set(index, counts.get(index) + count);
+			}
+		}
+
+		IngredientPlan plan = new IngredientPlan(requirements, counts.stream().mapToInt(Integer::intValue).toArray(), inventory.getSlots());
+		for (ItemStack stack : alwaysAvailableStacks) {
+			int matches = 0;
+			for (int req = 0; req < requirements.size(); req++) {
+				if (!stack.isEmpty() && requirements.get(req).apply(stack)) {
+					plan.available[req] += stack.getCount();
+					matches++;
+				}
+			}
+			if (matches > 1) {
+				plan.ambiguousSlots++;
+			}
+		}
+		for (int slot = 0; slot < inventory.getSlots(); slot++) {
+			plan.updateSlot(slot, inventory.getStackInSlot(slot));
+		}
+		return plan;
+	}
+
+	private static int indexOfInstance(List<Ingredient> ingredients, Ingredient ingredient) {
+		for (int i = 0; i < ingredients.size(); i++) {
+			if (ingredients.get(i) == ingredient) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void updateSlot(int slot, ItemStack stack) {
+		if (slot >= slotCounts.length) {
+			return;
+		}
+		int[] counts = slotCounts[slot];
+		int matches = 0;
+		for (int req = 0; req < requirements.size(); req++) {
+			int count = !stack.isEmpty() && requirements.get(req).apply(stack) ? stack.getCount() : 0;
+			available[req] += count - counts[req];
+			counts[req] = count;
+			if (count > 0) {
+				matches++;
+			}
+		}
+		boolean ambiguous = matches > 1;
+		if (ambiguous != slotAmbiguous[slot]) {
+			slotAmbiguous[slot] = ambiguous;
+			ambiguousSlots += ambiguous ? 1 : -1;
+		}
+	}
+
+	public boolean isAmbiguous() {
+		return ambiguousSlots > 0;
+	}
+
+	/*
+	 * Number of crafts that the currently available resources allow for, capped at max.
+	 * Returns max if the plan is ambiguous as then only a full inventory match can tell.
+	 */
+	public int getCraftableCount(int max) {
+		if (requirements.isEmpty()) {
+			return 0;
+		}
+		if (isAmbiguous()) {
+			return max;
+		}
+		long ret = max;
+		for (int req = 0; req < requirements.size(); req++) {
+			ret = Math.min(ret, available[req] / countsPerCraft[req]);
+		}
+		return (int) ret;
+	}
+}
@@ -0,0 +1,198 @@
+package net.shadowmage.ancientwarfare.core.crafting;
+
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraftforge.common.crafting.IngredientNBT;
+import net.minecraftforge.oredict.OreIngredient;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+ * Narrows down the recipes that need to be checked against a crafting matrix.
+ *
+ * Every recipe is indexed by the items of its most selective ingredient (ore dictionary ingredients are expanded to all
+ * the items registered for the ore name), so only recipes that have at least one of their required items present
+ * in the matrix get their matches called. Recipes that can't be indexed (dynamic recipes without ingredients or ones
+ * that only use custom ingredient implementations) are always checked. Results of the most recent matrix contents
+ * are kept in a small LRU cache.
+ */
+class RecipeIndex<R> {
+	private static final int CACHED_MATRICES = 32;
+
+	private final Supplier<Iterable<R>> recipeSupplier;
+	private final Supplier<Integer> recipeCountSupplier;
+	private final Function<R, List<Ingredient>> getIngredients;
+
+	private volatile Index<R> index = null;
+	private final Map<MatrixKey, List<R>> recentMatches = new LinkedHashMap<MatrixKey, List<R>>(CACHED_MATRICES, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<MatrixKey, List<R>> eldest) {
+			return size() > CACHED_MATRICES;
+		}
+	};
+
+	RecipeIndex(Supplier<Iterable<R>> recipeSupplier, Supplier<Integer> recipeCountSupplier, Function<R, List<Ingredient>> getIngredients) {
+		this.recipeSupplier = recipeSupplier;
+		this.recipeCountSupplier = recipeCountSupplier;
+		this.getIngredients = getIngredients;
+	}
+
+	List<R> findMatches(InventoryCrafting inventory, BiPredicate<R, InventoryCrafting> matches) {
+		Index<R> currentIndex = getIndex();
+		MatrixKey key = new MatrixKey(inventory);
+		synchronized (recentMatches) {
+			List<R> cached = recentMatches.get(key);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
+		List<R> ret = new ArrayList<>();
+		BitSet candidates = currentIndex.getCandidates(inventory);
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			R recipe = currentIndex.recipes.get(i);
+			if (matches.test(recipe, inventory)) {
+				ret.add(recipe);
+			}
+		}
+		ret = Collections.unmodifiableList(ret);
+
+		synchronized (recentMatches) {
+			recentMatches.put(key, ret);
+		}
+		return ret;
+	}
+
+	void invalidate() {
+		index = null;
+		synchronized (recentMatches) {
+			recentMatches.clear();
+		}
+	}
+
+	private Index<R> getIndex() {
+		Index<R> currentIndex = index;
+		if (currentIndex == null || currentIndex.recipes.size() != recipeCountSupplier.get()) {
+			synchronized (recentMatches) {
+				recentMatches.clear();
+			}
+			currentIndex = new Index<>(recipeSupplier.get(), getIngredients);
+			index = currentIndex;
+		}
+		return currentIndex;
+	}
+
+	private static class Index<R> {
+		private final List<R> recipes = new ArrayList<>();
+		private final Map<Item, BitSet> recipesByItem = new HashMap<>();
+		private final BitSet alwaysChecked = new BitSet();
+
+		private Index(Iterable<R> allRecipes, Function<R, List<Ingredient>> getIngredients) {
+			for (R recipe : allRecipes) {
+				int ordinal = recipes.size();
+				recipes.add(recipe);
+
+				Set<Item> keyItems = getMostSelectiveItems(getIngredients.apply(recipe));
+				if (keyItems.isEmpty()) {
+					alwaysChecked.set(ordinal);
+				} else {
+					keyItems.forEach(item -> recipesByItem.computeIfAbsent(item, i -> new BitSet()).set(ordinal));
+				}
+			}
+		}
+
+		private BitSet getCandidates(InventoryCrafting inventory) {
+			BitSet ret = (BitSet) alwaysChecked.clone();
+			Set<Item> itemsChecked = new HashSet<>();
+			for (int slot = 0; slot < inventory.getSizeInventory(); slot++) {
+				ItemStack stack = inventory.getStackInSlot(slot);
+				if (!stack.isEmpty() && itemsChecked.add(stack.getItem())) {
+					BitSet itemRecipes = recipesByItem.get(stack.getItem());
+					if (itemRecipes != null) {
+						ret.or(itemRecipes);
+					}
+				}
+			}
+			return ret;
+		}
+
+		private static Set<Item> getMostSelectiveItems(List<Ingredient> ingredients) {
+			Set<Item> ret = Collections.emptySet();
+			for (Ingredient ingredient : ingredients) {
+				if (ingredient.apply(ItemStack.EMPTY) || !isIndexable(ingredient)) {
+					continue;
+				}
+				Set<Item> items = new HashSet<>();
+				for (ItemStack stack : ingredient.getMatchingStacks()) {
+					items.add(stack.getItem());
+				}
+				if (!items.isEmpty() && (ret.isEmpty() || items.size() < ret.size())) {
+					ret = items;
+				}
+			}
+			return ret;
+		}
+
+		//only ingredients known to never match items outside of their matching stacks can be used as index keys
+		private static boolean isIndexable(Ingredient ingredient) {
+			return ingredient.getClass() == Ingredient.class || ingredient instanceof OreIngredient || ingredient instanceof IngredientNBT
+					|| ingredient instanceof IngredientCount || ingredient instanceof IngredientNBTRelaxed;
+		}
+	}
+
+	private static class MatrixKey {
+		private final int width;
+		private final List<ItemStack> stacks;
+		private final int hash;
+
+		private MatrixKey(InventoryCrafting inventory) {
+			width = inventory.getWidth();
+			stacks = new ArrayList<>(inventory.getSizeInventory());
+			int hashCode = width;
+			for (int slot = 0; slot < inventory.getSizeInventory(); slot++) {
+				ItemStack stack = inventory.getStackInSlot(slot).copy();
+				stacks.add(stack);
+				hashCode = 31 * hashCode + (stack.isEmpty() ? 0 : (System.identityHashCode(stack.getItem()) * 31 + stack.getMetadata()) * 31 + stack.getCount());
+			}
+			hash = hashCode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			MatrixKey other = (MatrixKey) o;
+			if (hash != other.hash || width != other.width || stacks.size() != other.stacks.size()) {
+				return false;
+			}
+			for (int i = 0; i < stacks.size(); i++) {
+				if (!ItemStack.areItemStacksEqual(stacks.get(i), other.stacks.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,307 @@
+package net.shadowmage.ancientwarfare.core.entity;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.GetCollisionBoxesEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Index of entities that are wider or taller than World.MAX_ENTITY_RADIUS allows for (gates, the largest vehicles).
+ * Vanilla entity queries only look into chunks and chunk sections within MAX_ENTITY_RADIUS of the query box, so these
+ * entities are indexed by every chunk column their bounds overlap and are added to collision box queries and to AW's own
+ * entity queries when they are stored in a chunk or section that the vanilla lookup didn't reach.
+ */
+public class LargeEntityIndex implements IWorldEventListener {
+	public static final LargeEntityIndex INSTANCE = new LargeEntityIndex();
+
+	private final Map<World, WorldIndex> indexes = new ConcurrentHashMap<>();
+
+	private LargeEntityIndex() {}
+
+	public static boolean isLargeEntity(AxisAlignedBB bounds) {
+		//entities are stored in the section of their feet, so the full height has to be within reach from above
+		return Math.max(bounds.maxX - bounds.minX, bounds.maxZ - bounds.minZ) / 2 > World.MAX_ENTITY_RADIUS
+				|| bounds.maxY - bounds.minY > World.MAX_ENTITY_RADIUS;
+	}
+
+	/*
+	 * Registers or moves the entity in the index, entities that fit within MAX_ENTITY_RADIUS are removed instead
+	 */
+	public void update(Entity entity, AxisAlignedBB bounds) {
+		if (isLargeEntity(bounds)) {
+			indexes.computeIfAbsent(entity.world, w -> new WorldIndex()).update(entity, bounds);
+		} else {
+			remove(entity);
+		}
+	}
+
+	public void remove(Entity entity) {
+		WorldIndex index = indexes.get(entity.world);
+		if (index != null) {
+			index.remove(entity);
+		}
+	}
+
+	/*
+	 * Same as World.getEntitiesWithinAABBExcludingEntity with the large entities stored outside of the vanilla search range added
+	 */
+	public static List<Entity> getEntitiesWithinAABBExcludingEntity(World world, @Nullable Entity excluded, AxisAlignedBB bb) {
+		List<Entity> ret = world.getEntitiesWithinAABBExcludingEntity(excluded, bb);
+		WorldIndex index = INSTANCE.indexes.get(world);
+		if (index != null) {
+			for (Entity entity : index.getEntitiesMissedByVanilla(bb)) {
+				if (entity != excluded && !entity.isDead && entity.getEntityBoundingBox().intersects(bb)) {
+					ret.add(entity);
+				}
+			}
+		}
+		return ret;
+	}
+
+	/*
+	 * Closest hit along the line with a large entity that a vanilla lookup around it wouldn't have found, null if none
+	 */
+	@Nullable
+	public RayTraceResult rayTraceMissedEntities(World world, Entity excluded, Vec3d start, Vec3d end) {
+		WorldIndex index = indexes.get(world);
+		if (index == null) {
+			return null;
+		}
+		RayTraceResult ret = null;
+		double closest = Double.MAX_VALUE;
+		for (Entity entity : index.getEntitiesMissedByVanilla(new AxisAlignedBB(start, end).grow(1))) {
+			if (entity == excluded || entity.isDead || !entity.canBeCollidedWith()) {
+				continue;
+			}
+			RayTraceResult hit = entity.getEntityBoundingBox().grow(entity.getCollisionBorderSize()).calculateIntercept(start, end);
+			if (hit != null && hit.hitVec.distanceTo(start) < closest) {
+				closest = hit.hitVec.distanceTo(start);
+				ret = new RayTraceResult(entity, hit.hitVec);
+			}
+		}
+		return ret;
+	}
+
+	@SubscribeEvent
+	public void onGetCollisionBoxes(GetCollisionBoxesEvent evt) {
+		Entity entityIn = evt.getEntity();
+		WorldIndex index = indexes.get(evt.getWorld());
+		if (entityIn == null || index == null) {
+			return;
+		}
+		AxisAlignedBB aabb = evt.getAabb();
+		//mirrors the entity part of World.getCollisionBoxes for the entities its lookup didn't reach
+		for (Entity entity : index.getEntitiesMissedByVanilla(aabb.grow(0.25D))) {
+			if (entity == entityIn || entity.isDead || entityIn.isRidingSameEntity(entity)) {
+				continue;
+			}
+			AxisAlignedBB bb = entity.getCollisionBoundingBox();
+			if (bb != null && bb.intersects(aabb)) {
+				evt.getCollisionBoxesList().add(bb);
+			}
+			bb = entityIn.getCollisionBox(entity);
+			if (bb != null && bb.intersects(aabb)) {
+				evt.getCollisionBoxesList().add(bb);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load evt) {
+		evt.getWorld().addEventListener(this);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		indexes.remove(evt.getWorld());
+	}
+
+	@Override
+	public void onEntityRemoved(Entity entityIn) {
+		remove(entityIn);
+	}
+
+	@Override
+	public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+		//noop
+	}
+
+	@Override
+	public void notifyLightSet(BlockPos pos) {
+		//noop
+	}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+		//noop
+	}
+
+	@Override
+	public void playSoundToAllNearExcept(
+			@Nullable EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x, double y, double z, float volume, float pitch) {
+		//noop
+	}
+
+	@Override
+	public void playRecord(SoundEvent soundIn, BlockPos pos) {
+		//noop
+	}
+
+	@Override
+	public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+		//noop
+	}
+
+	@Override
+	public void spawnParticle(int id, boolean ignoreRange, boolean p_190570_3_, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+		//noop
+	}
+
+	@Override
+	public void onEntityAdded(Entity entityIn) {
+		//noop
+	}
+
+	@Override
+	public void broadcastSound(int soundID, BlockPos pos, int data) {
+		//noop
+	}
+
+	@Override
+	public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) {
+		//noop
+	}
+
+	@Override
+	public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {
+		//noop
+	}
+
+	private static class WorldIndex {
+		private final Map<Entity, ChunkRange> ranges = new IdentityHashMap<>();
+		private final Map<Long, List<Entity>> entitiesByChunk = new HashMap<>();
+
+		private void update(Entity entity, AxisAlignedBB bounds) {
+			ChunkRange range = new ChunkRange(bounds);
+			ChunkRange previous = ranges.get(entity);
+			if (range.equals(previous)) {
+				return;
+			}
+			if (previous != null) {
+				remove(entity);
+			}
+			ranges.put(entity, range);
+			for (int cx = range.minX; cx <= range.maxX; cx++) {
+				for (int cz = range.minZ; cz <= range.maxZ; cz++) {
+					entitiesByChunk.computeIfAbsent(ChunkPos.asLong(cx, cz), k -> new ArrayList<>()).add(entity);
+				}
+			}
+		}
+
+		private void remove(Entity entity) {
+			ChunkRange range = ranges.remove(entity);
+			if (range == null) {
+				return;
+			}
+			for (int cx = range.minX; cx <= range.maxX; cx++) {
+				for (int cz = range.minZ; cz <= range.maxZ; cz++) {
+					long key = ChunkPos.asLong(cx, cz);
+					List<Entity> entities = entitiesByChunk.get(key);
+					if (entities != null) {
+						entities.remove(entity);
+						if (entities.isEmpty()) {
+							entitiesByChunk.remove(key);
+						}
+					}
+				}
+			}
+		}
+
+		/*
+		 * indexed entities overlapping the box that are stored in a chunk or chunk section outside of the range vanilla searches for it
+		 */
+		private Set<Entity> getEntitiesMissedByVanilla(AxisAlignedBB bb) {
+			if (ranges.isEmpty()) {
+				return Collections.emptySet();
+			}
+			ChunkRange vanillaRange = new ChunkRange(bb.grow(World.MAX_ENTITY_RADIUS, 0, World.MAX_ENTITY_RADIUS));
+			//same clamped section range as Chunk.getEntitiesWithinAABBForEntity
+			int minSectionY = MathHelper.clamp(MathHelper.floor((bb.minY - World.MAX_ENTITY_RADIUS) / 16.0D), 0, 15);
+			int maxSectionY = MathHelper.clamp(MathHelper.floor((bb.maxY + World.MAX_ENTITY_RADIUS) / 16.0D), 0, 15);
+			ChunkRange range = new ChunkRange(bb);
+			Set<Entity> ret = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (int cx = range.minX; cx <= range.maxX; cx++) {
+				for (int cz = range.minZ; cz <= range.maxZ; cz++) {
+					List<Entity> entities = entitiesByChunk.get(ChunkPos.asLong(cx, cz));
+					if (entities == null) {
+						continue;
+					}
+					for (Entity entity : entities) {
+						if (!entity.addedToChunk || !vanillaRange.contains(entity.chunkCoordX, entity.chunkCoordZ)
+								|| entity.chunkCoordY < minSectionY || entity.chunkCoordY > maxSectionY) {
+							ret.add(entity);
+						}
+					}
+				}
+			}
+			return ret;
+		}
+	}
+
+	private static class ChunkRange {
+		private final int minX;
+		private final int minZ;
+		private final int maxX;
+		private final int maxZ;
+
+		private ChunkRange(AxisAlignedBB bb) {
+			minX = MathHelper.floor(bb.minX) >> 4;
+			minZ = MathHelper.floor(bb.minZ) >> 4;
+			maxX = MathHelper.floor(bb.maxX) >> 4;
+			maxZ = MathHelper.floor(bb.maxZ) >> 4;
+		}
+
+		private boolean contains(int cx, int cz) {
+			return cx >= minX && cx <= maxX && cz >= minZ && cz <= maxZ;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			ChunkRange other = (ChunkRange) o;
+			return minX == other.minX && minZ == other.minZ && maxX == other.maxX && maxZ == other.maxZ;
+		}
+
+		@Override
+		public int hashCode() {
+			return ((minX * 31 + minZ) * 31 + maxX) * 31 + maxZ;
+		}
+	}
+}
@@ -5,20 +5,52 @@ package net.shadowmage.ancientwarfare.core.gamedata;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.MapStorage;
 import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
  * Helps building specific world data.
+ * The data resolved for a storage is cached by class so lookups from hot paths (faction standings, structure checks,
+ * research) don't build the data name and go through the storage on every call. Caches are dropped on world unload.
  */
 public final class AWGameData {
 
 	public static final AWGameData INSTANCE = new AWGameData();
 
+	private final Map<MapStorage, Map<Class<?>, WorldSavedData>> dataByStorage = new ConcurrentHashMap<>();
+
+	private AWGameData() {}
+
 	public <T extends WorldSavedData> T getData(World world, Class<T> clz) {
-		return initData(world.getMapStorage(), clz);
+		return getCachedData(world.getMapStorage(), clz);
 	}
 
 	public <T extends WorldSavedData> T getPerWorldData(World world, Class<T> clz) {
-		return initData(world.getPerWorldStorage(), clz);
+		return getCachedData(world.getPerWorldStorage(), clz);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		//map storage is shared between dimensions, dropping it here only means it gets resolved again on next use
+		if (evt.getWorld().getMapStorage() != null) {
+			dataByStorage.remove(evt.getWorld().getMapStorage());
+		}
+		dataByStorage.remove(evt.getWorld().getPerWorldStorage());
+	}
+
+	private <T extends WorldSavedData> T getCachedData(MapStorage storage, Class<T> clz) {
+		Map<Class<?>, WorldSavedData> storageData = dataByStorage.computeIfAbsent(storage, s -> new ConcurrentHashMap<>());
+		WorldSavedData data = storageData.get(clz);
+		if (data == null) {
+			data = initData(storage, clz);
+			if (data != null) {
+				storageData.put(clz, data);
+			}
+		}
+		return clz.cast(data);
 	}
 
 	private <T extends WorldSavedData> T initData(MapStorage storage, Class<T> clz) {
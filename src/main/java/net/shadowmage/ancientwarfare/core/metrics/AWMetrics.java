@@ -0,0 +1,172 @@
+package net.shadowmage.ancientwarfare.core.metrics;
+
+import com.google.gson.stream.JsonWriter;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.shadowmage.ancientwarfare.core.AncientWarfareCore;
+import net.shadowmage.ancientwarfare.core.config.AWCoreStatics;
+import net.shadowmage.ancientwarfare.core.network.PacketBase;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * Low overhead counters and timers for AW hot paths (worksites, npcs, world gen, logistics), read through /awperf or
+ * dumped periodically to the config folder. Timed code does:
+ *
+ * long start = AWMetrics.start();
+ * ...
+ * METRICS.recordSince(getClass(), start);
+ *
+ * which costs two nanoTime calls while enabled and nothing but a flag check while disabled.
+ * Packet traffic is reported from the counters PacketBase keeps anyway. Periodic dumps are written on a background thread.
+ */
+public final class AWMetrics {
+	public static final AWMetrics INSTANCE = new AWMetrics();
+
+	public static final long NOT_TIMED = Long.MIN_VALUE;
+	public static final String FORMAT_CSV = "csv";
+	public static final String FORMAT_JSON = "json";
+	private static final String DUMP_PATH = AWCoreStatics.configPathForFiles + "metrics/";
+
+	private static final Map<String, MetricGroup> groups = new ConcurrentHashMap<>();
+	private static final ExecutorService DUMP_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "AW Metrics Dump");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static volatile boolean enabled;
+
+	private int ticksSinceDump;
+
+	private AWMetrics() {}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(boolean enabled) {
+		AWMetrics.enabled = enabled;
+	}
+
+	public static long start() {
+		return enabled ? System.nanoTime() : NOT_TIMED;
+	}
+
+	public static MetricGroup group(String category) {
+		return groups.computeIfAbsent(category, MetricGroup::new);
+	}
+
+	public static void reset() {
+		for (MetricGroup group : groups.values()) {
+			for (Metric metric : group.getMetrics()) {
+				metric.reset();
+			}
+		}
+	}
+
+	/*
+	 * All metrics that ran at least once, sorted by category and name
+	 */
+	public static List<MetricSnapshot> getSnapshots() {
+		List<MetricSnapshot> ret = new ArrayList<>();
+		for (MetricGroup group : groups.values()) {
+			for (Metric metric : group.getMetrics()) {
+				MetricSnapshot snapshot = metric.snapshot();
+				if (snapshot.count > 0) {
+					ret.add(snapshot);
+				}
+			}
+		}
+		for (PacketBase.PacketStats stats : PacketBase.getPacketStats()) {
+			if (stats.sent > 0) {
+				ret.add(new MetricSnapshot("packet_sent", stats.name, stats.sent, stats.bytesSent, stats.encodeNanos, 0, 0, 0));
+			}
+			if (stats.received > 0) {
+				ret.add(new MetricSnapshot("packet_received", stats.name, stats.received, stats.bytesReceived, 0, 0, 0, 0));
+			}
+		}
+		ret.sort(Comparator.<MetricSnapshot, String>comparing(s -> s.category).thenComparing(s -> s.name));
+		return ret;
+	}
+
+	/*
+	 * Writes all metrics to a new file in the metrics folder, returns the file or null if writing failed
+	 */
+	public static File dump(String format) {
+		return write(format, new Date(), getSnapshots());
+	}
+
+	private static File write(String format, Date date, List<MetricSnapshot> snapshots) {
+		String extension = FORMAT_JSON.equals(format) ? FORMAT_JSON : FORMAT_CSV;
+		File file = new File(DUMP_PATH, "awperf-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(date) + "." + extension);
+		if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+			AncientWarfareCore.LOG.error("Unable to create folders for file : " + file.getAbsolutePath());
+			return null;
+		}
+		try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+			if (extension.equals(FORMAT_JSON)) {
+				writeJson(writer, snapshots);
+			} else {
+				writer.write(MetricSnapshot.CSV_HEADER);
+				writer.newLine();
+				for (MetricSnapshot snapshot : snapshots) {
+					writer.write(snapshot.toCsvLine());
+					writer.newLine();
+				}
+			}
+		}
+		catch (IOException e) {
+			AncientWarfareCore.LOG.error("Error writing metrics file: " + file.getAbsolutePath(), e);
+			return null;
+		}
+		return file;
+	}
+
+	private static void writeJson(BufferedWriter writer, List<MetricSnapshot> snapshots) throws IOException {
+		JsonWriter json = new JsonWriter(writer);
+		json.setIndent("  ");
+		json.beginArray();
+		for (MetricSnapshot snapshot : snapshots) {
+			json.beginObject();
+			json.name("category").value(snapshot.category);
+			json.name("name").value(snapshot.name);
+			json.name("count").value(snapshot.count);
+			json.name("amount").value(snapshot.amount);
+			json.name("totalNanos").value(snapshot.totalNanos);
+			json.name("maxNanos").value(snapshot.maxNanos);
+			json.name("p50Micros").value(snapshot.p50Micros);
+			json.name("p99Micros").value(snapshot.p99Micros);
+			json.endObject();
+		}
+		json.endArray();
+		json.flush();
+	}
+
+	@SubscribeEvent
+	public void onServerTick(TickEvent.ServerTickEvent evt) {
+		if (evt.phase != TickEvent.Phase.END || !enabled || AWCoreStatics.metricsDumpInterval <= 0) {
+			return;
+		}
+		ticksSinceDump++;
+		if (ticksSinceDump >= AWCoreStatics.metricsDumpInterval * 20) {
+			ticksSinceDump = 0;
+			//snapshot on the server thread, file IO off of it
+			String format = AWCoreStatics.metricsDumpFormat;
+			Date date = new Date();
+			List<MetricSnapshot> snapshots = getSnapshots();
+			DUMP_EXECUTOR.execute(() -> write(format, date, snapshots));
+		}
+	}
+}
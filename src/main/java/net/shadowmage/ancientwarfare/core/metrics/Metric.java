@@ -0,0 +1,99 @@
+package net.shadowmage.ancientwarfare.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Counters of one instrumented operation: how often it ran, an amount it handled (items moved, bytes...), the total and
+ * max time it took and a histogram of its times in power of two microsecond buckets (<1us, <2us, <4us...).
+ * Recording does nothing while metrics are disabled.
+ */
+public class Metric {
+	private static final int BUCKETS = 24;
+
+	private final String category;
+	private final String name;
+	private final LongAdder count = new LongAdder();
+	private final LongAdder amount = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+	Metric(String category, String name) {
+		this.category = category;
+		this.name = name;
+	}
+
+	public void increment() {
+		add(1);
+	}
+
+	/*
+	 * Counts one run of the operation that handled the amount
+	 */
+	public void add(long amount) {
+		if (AWMetrics.isEnabled()) {
+			count.increment();
+			this.amount.add(amount);
+		}
+	}
+
+	/*
+	 * Counts one run of the operation that started at the time returned by AWMetrics.start()
+	 */
+	public void recordSince(long startNanos) {
+		if (startNanos != AWMetrics.NOT_TIMED) {
+			record(System.nanoTime() - startNanos);
+		}
+	}
+
+	private void record(long nanos) {
+		count.increment();
+		totalNanos.add(nanos);
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+		histogram.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos / 1000)));
+	}
+
+	void reset() {
+		count.reset();
+		amount.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+		for (int i = 0; i < BUCKETS; i++) {
+			histogram.set(i, 0);
+		}
+	}
+
+	MetricSnapshot snapshot() {
+		long[] buckets = new long[BUCKETS];
+		long timed = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = histogram.get(i);
+			timed += buckets[i];
+		}
+		return new MetricSnapshot(category, name, count.sum(), amount.sum(), totalNanos.sum(), maxNanos.get(),
+				getPercentileMicros(buckets, timed, 0.5), getPercentileMicros(buckets, timed, 0.99));
+	}
+
+	/*
+	 * Upper bound of the bucket the percentile falls in
+	 */
+	private static long getPercentileMicros(long[] buckets, long timed, double percentile) {
+		if (timed == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(timed * percentile);
+		long seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i];
+			if (seen >= rank) {
+				return 1L << i;
+			}
+		}
+		return 1L << (buckets.length - 1);
+	}
+}
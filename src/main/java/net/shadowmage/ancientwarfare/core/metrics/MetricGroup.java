@@ -0,0 +1,57 @@
+package net.shadowmage.ancientwarfare.core.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Metrics of one category (worksite type, packet type...), keep a reference to the group in a static field so that
+ * instrumented code only does a map lookup by name or class, and only while metrics are enabled when using recordSince
+ */
+public class MetricGroup {
+	private final String category;
+	private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Metric> metricsByClass = new ConcurrentHashMap<>();
+
+	MetricGroup(String category) {
+		this.category = category;
+	}
+
+	public Metric get(String name) {
+		return metrics.computeIfAbsent(name, n -> new Metric(category, n));
+	}
+
+	/*
+	 * Metric named by the simple name of the class
+	 */
+	public Metric get(Class<?> clz) {
+		Metric metric = metricsByClass.get(clz);
+		if (metric == null) {
+			metric = get(clz.getSimpleName());
+			metricsByClass.put(clz, metric);
+		}
+		return metric;
+	}
+
+	/*
+	 * Same as get(name).recordSince(startNanos) without the lookup when the operation wasn't timed
+	 */
+	public void recordSince(String name, long startNanos) {
+		if (startNanos != AWMetrics.NOT_TIMED) {
+			get(name).recordSince(startNanos);
+		}
+	}
+
+	/*
+	 * Same as get(clz).recordSince(startNanos) without the lookup when the operation wasn't timed
+	 */
+	public void recordSince(Class<?> clz, long startNanos) {
+		if (startNanos != AWMetrics.NOT_TIMED) {
+			get(clz).recordSince(startNanos);
+		}
+	}
+
+	Collection<Metric> getMetrics() {
+		return metrics.values();
+	}
+}
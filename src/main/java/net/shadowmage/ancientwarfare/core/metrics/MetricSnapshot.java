@@ -0,0 +1,43 @@
+package net.shadowmage.ancientwarfare.core.metrics;
+
+import java.util.Locale;
+
+/*
+ * Values of a metric at the time it was read, times are 0 for metrics that only count
+ */
+public class MetricSnapshot {
+	static final String CSV_HEADER = "Category,Name,Count,Amount,Total ms,Avg us,Max us,P50 us,P99 us";
+
+	public final String category;
+	public final String name;
+	public final long count;
+	public final long amount;
+	public final long totalNanos;
+	public final long maxNanos;
+	public final long p50Micros;
+	public final long p99Micros;
+
+	public MetricSnapshot(String category, String name, long count, long amount, long totalNanos, long maxNanos, long p50Micros, long p99Micros) {
+		this.category = category;
+		this.name = name;
+		this.count = count;
+		this.amount = amount;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+		this.p50Micros = p50Micros;
+		this.p99Micros = p99Micros;
+	}
+
+	public double getTotalMillis() {
+		return totalNanos / 1_000_000D;
+	}
+
+	public double getAverageMicros() {
+		return count == 0 ? 0 : totalNanos / 1000D / count;
+	}
+
+	String toCsvLine() {
+		return String.join(",", category, name, Long.toString(count), Long.toString(amount), String.format(Locale.ROOT, "%.3f", getTotalMillis()),
+				String.format(Locale.ROOT, "%.1f", getAverageMicros()), Long.toString(maxNanos / 1000), Long.toString(p50Micros), Long.toString(p99Micros));
+	}
+}
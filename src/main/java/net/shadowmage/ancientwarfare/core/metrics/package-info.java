@@ -0,0 +1,8 @@
+// Auto generated package-info by MCP
+
+@ParametersAreNonnullByDefault @MethodsReturnNonnullByDefault
+package net.shadowmage.ancientwarfare.core.metrics;
+
+import mcp.MethodsReturnNonnullByDefault;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -5,36 +5,60 @@ import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+import net.shadowmage.ancientwarfare.core.AncientWarfareCore;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 public abstract class PacketBase {
 
-	private static HashMap<Integer, Class<? extends PacketBase>> packetTypes = new HashMap<>();
-	private static HashMap<Class<? extends PacketBase>, Integer> packetIDs = new HashMap<>();
+	private static final int MAX_PACKET_TYPES = 256;
+	//scratch buffers that grew beyond this while encoding are dropped instead of being kept for reuse
+	private static final int MAX_RETAINED_SCRATCH_CAPACITY = 64 * 1024;
 
-	public static void registerPacketType(int typeNum, Class<? extends PacketBase> packetClz) {
-		packetTypes.put(typeNum, packetClz);
-		packetIDs.put(packetClz, typeNum);
+	private static final PacketType[] packetTypes = new PacketType[MAX_PACKET_TYPES];
+	private static final Map<Class<? extends PacketBase>, PacketType> packetTypesByClass = new IdentityHashMap<>();
+
+	private static final ThreadLocal<ByteBuf> scratchBuffer = ThreadLocal.withInitial(() -> Unpooled.buffer(256));
+
+	public static <T extends PacketBase> void registerPacketType(int typeNum, Class<T> packetClz, Supplier<T> factory) {
+		PacketType type = new PacketType(typeNum, packetClz, factory);
+		packetTypes[typeNum] = type;
+		packetTypesByClass.put(packetClz, type);
 	}
 
 	public PacketBase() {
 	}
 
+	private PacketType getType() {
+		PacketType type = packetTypesByClass.get(getClass());
+		if (type == null) {
+			throw new IllegalStateException("Packet type not registered: " + getClass().getName());
+		}
+		return type;
+	}
+
 	protected void writeHeaderToStream(ByteBuf data) {
-		data.writeByte(packetIDs.get(this.getClass()));
+		data.writeByte(getType().id);
 	}
 
+	@Nullable
 	protected static PacketBase readHeaderFromStream(ByteBuf data) {
-		int typeNum = data.readByte();
-		try {
-			return packetTypes.get(typeNum).newInstance();
-		}
-		catch (Exception e) {
-			e.printStackTrace();
+		int typeNum = data.readUnsignedByte();
+		PacketType type = packetTypes[typeNum];
+		if (type == null) {
+			AncientWarfareCore.LOG.error("Received packet with unregistered type: {}", typeNum);
+			return null;
 		}
-		return null;
+		type.received.incrementAndGet();
+		type.bytesReceived.addAndGet(data.readableBytes() + 1L);
+		return type.factory.get();
 	}
 
 	protected abstract void writeToStream(ByteBuf data);
@@ -59,10 +83,72 @@ public abstract class PacketBase {
 	}
 
 	public final FMLProxyPacket getFMLPacket() {
-		PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
-		writeHeaderToStream(buf);
-		writeToStream(buf);
+		long start = System.nanoTime();
+		PacketType type = getType();
+
+		//encode into a reused per thread buffer and copy out exactly the bytes written, which avoids growing a fresh buffer for every packet
+		ByteBuf scratch = scratchBuffer.get();
+		scratch.clear();
+		writeHeaderToStream(scratch);
+		writeToStream(scratch);
+		PacketBuffer buf = new PacketBuffer(Unpooled.copiedBuffer(scratch));
+		if (scratch.capacity() > MAX_RETAINED_SCRATCH_CAPACITY) {
+			scratchBuffer.remove();
+		}
+
+		type.sent.incrementAndGet();
+		type.bytesSent.addAndGet(buf.readableBytes());
+		type.encodeNanos.addAndGet(System.nanoTime() - start);
 		return new FMLProxyPacket(buf, NetworkHandler.CHANNELNAME);
 	}
 
+	public static List<PacketStats> getPacketStats() {
+		List<PacketStats> ret = new ArrayList<>();
+		for (PacketType type : packetTypes) {
+			if (type != null) {
+				ret.add(new PacketStats(type));
+			}
+		}
+		return ret;
+	}
+
+	private static class PacketType {
+		private final int id;
+		private final Class<? extends PacketBase> packetClass;
+		private final Supplier<? extends PacketBase> factory;
+		private final AtomicLong sent = new AtomicLong();
+		private final AtomicLong bytesSent = new AtomicLong();
+		private final AtomicLong encodeNanos = new AtomicLong();
+		private final AtomicLong received = new AtomicLong();
+		private final AtomicLong bytesReceived = new AtomicLong();
+
+		private PacketType(int id, Class<? extends PacketBase> packetClass, Supplier<? extends PacketBase> factory) {
+			this.id = id;
+			this.packetClass = packetClass;
+			this.factory = factory;
+		}
+	}
+
+	/*
+	 * Snapshot of the traffic counters of one packet type since startup
+	 */
+	public static class PacketStats {
+		public final int id;
+		public final String name;
+		public final long sent;
+		public final long bytesSent;
+		public final long encodeNanos;
+		public final long received;
+		public final long bytesReceived;
+
+		private PacketStats(PacketType type) {
+			id = type.id;
+			name = type.packetClass.getSimpleName();
+			sent = type.sent.get();
+			bytesSent = type.bytesSent.get();
+			encodeNanos = type.encodeNanos.get();
+			received = type.received.get();
+			bytesReceived = type.bytesReceived.get();
+		}
+	}
 }
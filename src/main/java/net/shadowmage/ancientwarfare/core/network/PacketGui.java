@@ -9,10 +9,15 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.shadowmage.ancientwarfare.core.AncientWarfareCore;
 import net.shadowmage.ancientwarfare.core.container.ContainerBase;
 
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
 
 public class PacketGui extends PacketBase {
 
+	//payloads up to this size are sent as plain NBT as compressing them costs more than the bytes saved
+	private static final int COMPRESSION_THRESHOLD = 512;
+
 	private NBTTagCompound packetData;
 
 	public PacketGui(NBTTagCompound packetData) {
@@ -42,9 +47,21 @@ public class PacketGui extends PacketBase {
 	@Override
 	protected void writeToStream(ByteBuf data) {
 		if (packetData != null) {
-			ByteBufOutputStream bbos = new ByteBufOutputStream(data);
+			int start = data.writerIndex();
 			try {
-				CompressedStreamTools.writeCompressed(packetData, bbos);
+				data.writeBoolean(false);
+				CompressedStreamTools.write(packetData, new ByteBufOutputStream(data));
+				int length = data.writerIndex() - start - 1;
+				if (length > COMPRESSION_THRESHOLD) {
+					//gzip the bytes just written instead of serializing the tag again, same format as CompressedStreamTools.writeCompressed
+					byte[] raw = new byte[length];
+					data.getBytes(start + 1, raw);
+					data.writerIndex(start);
+					data.writeBoolean(true);
+					try (GZIPOutputStream out = new GZIPOutputStream(new ByteBufOutputStream(data))) {
+						out.write(raw);
+					}
+				}
 			}
 			catch (IOException e) {
 				e.printStackTrace();
@@ -55,7 +72,11 @@ public class PacketGui extends PacketBase {
 	@Override
 	protected void readFromStream(ByteBuf data) {
 		try {
-			packetData = CompressedStreamTools.readCompressed(new ByteBufInputStream(data));
+			if (data.readBoolean()) {
+				packetData = CompressedStreamTools.readCompressed(new ByteBufInputStream(data));
+			} else {
+				packetData = CompressedStreamTools.read(new DataInputStream(new ByteBufInputStream(data)));
+			}
 		}
 		catch (IOException e) {
 			e.printStackTrace();
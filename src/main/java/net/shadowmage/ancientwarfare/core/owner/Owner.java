@@ -18,6 +18,7 @@ public class Owner {
 
 	public static void setTeamViewer(ITeamViewer newTeamViewer) {
 		teamViewer = newTeamViewer;
+		TeamRelationCache.INSTANCE.invalidate();
 	}
 
 	private static final String OWNER_NAME_TAG = "ownerName";
@@ -58,7 +59,7 @@ public class Owner {
 	}
 
 	public boolean isOwnerOrSameTeamOrFriend(World world, @Nullable UUID playerId, String playerName) {
-		return teamViewer.areFriendly(world, uuid, playerId, name, playerName);
+		return TeamRelationCache.INSTANCE.getRelation(teamViewer, world, uuid, playerId, name, playerName).isFriendly();
 	}
 
 	public String getName() {
@@ -94,7 +95,7 @@ public class Owner {
 	}
 
 	public boolean playerHasCommandPermissions(World world, UUID playerId, String playerName) {
-		return this != Owner.EMPTY && teamViewer.areTeamMates(world, uuid, playerId, name, playerName);
+		return this != Owner.EMPTY && TeamRelationCache.INSTANCE.getRelation(teamViewer, world, uuid, playerId, name, playerName).isTeamMate();
 	}
 
 }
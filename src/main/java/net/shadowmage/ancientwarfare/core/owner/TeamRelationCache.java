@@ -0,0 +1,101 @@
+package net.shadowmage.ancientwarfare.core.owner;
+
+import net.minecraft.scoreboard.Scoreboard;
+import net.minecraft.scoreboard.ServerScoreboard;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+ * Server side cache of team relations between pairs of owner UUIDs. Relations are resolved through the current
+ * ITeamViewer once and then served from memory until the scoreboard or an integrated team mod reports a change.
+ * Teammates are expected to always be friendly as well, which holds for both the default and the FTB team viewer.
+ */
+public class TeamRelationCache {
+	public static final TeamRelationCache INSTANCE = new TeamRelationCache();
+
+	//safety net for team changes that are not reported through any event
+	private static final int FULL_REFRESH_TICKS = 1200;
+
+	public enum Relation {
+		HOSTILE,
+		FRIENDLY,
+		TEAMMATE;
+
+		public boolean isFriendly() {
+			return this != HOSTILE;
+		}
+
+		public boolean isTeamMate() {
+			return this == TEAMMATE;
+		}
+	}
+
+	private static final UUID EMPTY_ID = new UUID(0, 0);
+
+	private final Map<UUID, Map<UUID, Relation>> relations = new HashMap<>();
+	private Scoreboard trackedScoreboard = null;
+	private int ticksSinceRefresh = 0;
+
+	private TeamRelationCache() {}
+
+	public Relation getRelation(ITeamViewer teamViewer, World world, UUID player1, @Nullable UUID player2, String playerName1, String playerName2) {
+		if (world.isRemote || player2 == null || EMPTY_ID.equals(player1) || EMPTY_ID.equals(player2)) {
+			//owners that could not be resolved to a player UUID share the empty id, so they can only be told apart by name
+			return computeRelation(teamViewer, world, player1, player2, playerName1, playerName2);
+		}
+		Map<UUID, Relation> playerRelations = relations.computeIfAbsent(player1, k -> new HashMap<>());
+		Relation relation = playerRelations.get(player2);
+		if (relation == null) {
+			relation = computeRelation(teamViewer, world, player1, player2, playerName1, playerName2);
+			playerRelations.put(player2, relation);
+		}
+		return relation;
+	}
+
+	private Relation computeRelation(ITeamViewer teamViewer, World world, UUID player1, @Nullable UUID player2, String playerName1, String playerName2) {
+		if (player2 != null && teamViewer.areTeamMates(world, player1, player2, playerName1, playerName2)) {
+			return Relation.TEAMMATE;
+		}
+		return teamViewer.areFriendly(world, player1, player2, playerName1, playerName2) ? Relation.FRIENDLY : Relation.HOSTILE;
+	}
+
+	public void invalidate() {
+		relations.clear();
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load evt) {
+		World world = evt.getWorld();
+		if (world.isRemote) {
+			return;
+		}
+		Scoreboard scoreboard = world.getScoreboard();
+		if (scoreboard != trackedScoreboard && scoreboard instanceof ServerScoreboard) {
+			trackedScoreboard = scoreboard;
+			((ServerScoreboard) scoreboard).addDirtyRunnable(this::invalidate);
+		}
+		invalidate();
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		if (!evt.getWorld().isRemote) {
+			invalidate();
+		}
+	}
+
+	@SubscribeEvent
+	public void serverTick(TickEvent.ServerTickEvent evt) {
+		if (evt.phase == TickEvent.Phase.END && ++ticksSinceRefresh >= FULL_REFRESH_TICKS) {
+			ticksSinceRefresh = 0;
+			invalidate();
+		}
+	}
+}
@@ -2,7 +2,11 @@ package net.shadowmage.ancientwarfare.core.proxy;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.entity.Entity;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.Vec3d;
+import net.minecraftforge.client.event.MouseEvent;
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -10,6 +14,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.shadowmage.ancientwarfare.core.AncientWarfareCore;
 import net.shadowmage.ancientwarfare.core.config.AWCoreStatics;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
 import net.shadowmage.ancientwarfare.core.input.InputHandler;
 import net.shadowmage.ancientwarfare.core.manual.ManualContentRegistry;
 import net.shadowmage.ancientwarfare.core.registry.RegistryLoader;
@@ -67,6 +72,28 @@ public class ClientProxy extends ClientProxyBase {
 		unicodeFontRenderer = new FontRenderer(mc.gameSettings, new ResourceLocation("textures/font/ascii.png"), mc.getTextureManager(), true);
 	}
 
+	/*
+	 * the vanilla mouse over only finds entities within World.MAX_ENTITY_RADIUS of the look vector, large entities like
+	 * gates are picked up from the large entity index before the click gets processed
+	 */
+	@SubscribeEvent
+	public void onMouseEvent(MouseEvent evt) {
+		Minecraft mc = Minecraft.getMinecraft();
+		Entity viewer = mc.getRenderViewEntity();
+		if (evt.getButton() < 0 || !evt.isButtonstate() || mc.world == null || viewer == null || mc.playerController == null) {
+			return;
+		}
+		Vec3d start = viewer.getPositionEyes(1.0F);
+		double reach = mc.playerController.getBlockReachDistance();
+		Vec3d end = start.add(viewer.getLook(1.0F).scale(reach));
+		RayTraceResult hit = LargeEntityIndex.INSTANCE.rayTraceMissedEntities(mc.world, viewer, start, end);
+		RayTraceResult current = mc.objectMouseOver;
+		if (hit != null && (current == null || current.typeOfHit == RayTraceResult.Type.MISS || hit.hitVec.distanceTo(start) < current.hitVec.distanceTo(start))) {
+			mc.objectMouseOver = hit;
+			mc.pointedEntity = hit.entityHit;
+		}
+	}
+
 	@SubscribeEvent
 	public void onPreTextureStitch(TextureStitchEvent.Pre evt) {
 		EngineeringStationRenderer.INSTANCE.setSprite(evt.getMap().registerSprite(new ResourceLocation(AncientWarfareCore.MOD_ID + ":model/core/tile_engineering_station")));
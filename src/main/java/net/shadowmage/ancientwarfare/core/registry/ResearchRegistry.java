@@ -10,8 +10,10 @@ import net.shadowmage.ancientwarfare.core.AncientWarfareCore;
 import net.shadowmage.ancientwarfare.core.research.ResearchGoal;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -21,6 +23,9 @@ public class ResearchRegistry {
 	private ResearchRegistry() {}
 
 	private static final Map<String, ResearchGoal> researchGoals = new HashMap<>();
+	//dense ids assigned in load order so that completed research can be kept in bitsets
+	private static final Map<String, Integer> researchIds = new HashMap<>();
+	private static final List<String> researchNamesById = new ArrayList<>();
 
 	@Nullable
 	public static ResearchGoal getResearch(String researchName) {
@@ -31,6 +36,18 @@ public class ResearchRegistry {
 		return researchGoals.containsKey(researchName);
 	}
 
+	/*
+	 * @return dense id of the research goal or -1 if there's no research goal with the name
+	 */
+	public static int getResearchId(String researchName) {
+		Integer id = researchIds.get(researchName);
+		return id == null ? -1 : id;
+	}
+
+	public static String getResearchName(int researchId) {
+		return researchNamesById.get(researchId);
+	}
+
 	public static Collection<ResearchGoal> getAllResearchGoals() {
 		return researchGoals.values();
 	}
@@ -49,6 +66,10 @@ public class ResearchRegistry {
 			Set<Ingredient> resources = getResources(json);
 
 			researchGoals.put(name, new ResearchGoal(name, dependencies, resources, time));
+			if (!researchIds.containsKey(name)) {
+				researchIds.put(name, researchNamesById.size());
+				researchNamesById.add(name);
+			}
 		}
 
 		private Set<Ingredient> getResources(JsonObject json) {
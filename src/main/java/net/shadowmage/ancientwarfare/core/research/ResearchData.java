@@ -13,6 +13,7 @@ import net.shadowmage.ancientwarfare.core.registry.ResearchRegistry;
 import net.shadowmage.ancientwarfare.core.util.StreamUtils;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -212,10 +213,25 @@ public class ResearchData extends WorldSavedData {
 		private String currentResearch = null;
 		private int currentProgress = -1;
 		private Set<String> completedResearch = new HashSet<>();
+		private BitSet completedResearchIds = new BitSet();
 		private List<String> queuedResearch = new ArrayList<>();
 
 		private boolean knowsResearch(String researchName) {
-			return getCompletedResearch().contains(researchName);
+			int id = ResearchRegistry.getResearchId(researchName);
+			return id >= 0 ? completedResearchIds.get(id) : completedResearch.contains(researchName);
+		}
+
+		private void addCompletedResearch(String researchName) {
+			completedResearch.add(researchName);
+			int id = ResearchRegistry.getResearchId(researchName);
+			if (id >= 0) {
+				completedResearchIds.set(id);
+			}
+		}
+
+		private void clearCompletedResearch() {
+			completedResearch.clear();
+			completedResearchIds.clear();
 		}
 
 		public Optional<String> getCurrentResearch() {
@@ -247,7 +263,7 @@ public class ResearchData extends WorldSavedData {
 
 		public void finishResearch(String researchName) {
 			if (getCurrentResearch().map(r -> r.equals(researchName)).orElse(false)) {
-				getCompletedResearch().add(researchName);
+				addCompletedResearch(researchName);
 				currentProgress = -1;
 				resetCurrentResearch();
 			}
@@ -278,7 +294,7 @@ public class ResearchData extends WorldSavedData {
 		}
 
 		private void addResearch(String researchName) {
-			getCompletedResearch().add(researchName);
+			addCompletedResearch(researchName);
 			if (queuedResearch.contains(researchName)) {
 				queuedResearch.remove(researchName);
 			}
@@ -289,23 +305,27 @@ public class ResearchData extends WorldSavedData {
 		}
 
 		private void removeResearch(String researchName) {
-			this.getCompletedResearch().remove(researchName);
+			completedResearch.remove(researchName);
+			int id = ResearchRegistry.getResearchId(researchName);
+			if (id >= 0) {
+				completedResearchIds.clear(id);
+			}
 		}
 
 		private void clearResearch() {
-			getCompletedResearch().clear();
+			clearCompletedResearch();
 			currentProgress = -1;
 			resetCurrentResearch();
 			queuedResearch.clear();
 		}
 
 		private void fillResearch() {
-			getCompletedResearch().clear();
+			clearCompletedResearch();
 			currentProgress = -1;
 			resetCurrentResearch();
 			queuedResearch.clear();
 			for (ResearchGoal g : ResearchRegistry.getAllResearchGoals()) {
-				getCompletedResearch().add(g.getName());
+				addCompletedResearch(g.getName());
 			}
 		}
 
@@ -335,7 +355,7 @@ public class ResearchData extends WorldSavedData {
 				currentResearch = fixedTag.getString("currentResearch");
 			}
 			currentProgress = fixedTag.getInteger("currentProgress");
-			fixedTag.getTagList("completedResearch", Constants.NBT.TAG_STRING).forEach(t -> getCompletedResearch().add(((NBTTagString) t).getString()));
+			fixedTag.getTagList("completedResearch", Constants.NBT.TAG_STRING).forEach(t -> addCompletedResearch(((NBTTagString) t).getString()));
 			fixedTag.getTagList("queuedResearch", Constants.NBT.TAG_STRING).forEach(t -> queuedResearch.add(((NBTTagString) t).getString()));
 		}
 
@@ -397,7 +417,7 @@ public class ResearchData extends WorldSavedData {
 		}
 
 		public Set<String> getCompletedResearch() {
-			return completedResearch;
+			return Collections.unmodifiableSet(completedResearch);
 		}
 
 		public List<String> getQueuedResearch() {
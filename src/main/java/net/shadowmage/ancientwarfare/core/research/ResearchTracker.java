@@ -3,6 +3,7 @@ package net.shadowmage.ancientwarfare.core.research;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import net.minecraft.world.storage.MapStorage;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
 import net.shadowmage.ancientwarfare.core.gamedata.AWGameData;
@@ -21,6 +22,8 @@ public final class ResearchTracker {
 
 	public static final ResearchTracker INSTANCE = new ResearchTracker();
 	private final ResearchData clientData;
+	private MapStorage serverDataStorage = null;
+	private ResearchData serverData = null;
 
 	private ResearchTracker() {
 		clientData = new ResearchData("AWResearchData");
@@ -140,7 +143,12 @@ public final class ResearchTracker {
 		if (world.isRemote) {
 			return clientData;
 		}
-		return AWGameData.INSTANCE.getData(world, ResearchData.class);
+		MapStorage storage = world.getMapStorage();
+		if (serverData == null || storage != serverDataStorage) {
+			serverData = AWGameData.INSTANCE.getData(world, ResearchData.class);
+			serverDataStorage = storage;
+		}
+		return serverData;
 	}
 
 	/*
@@ -23,6 +23,7 @@ import java.util.List;
 public class CraftingRecipeMemory {
 	private final TileEntity tileEntity;
 	private ICraftingRecipe recipe = NoRecipeWrapper.INSTANCE;
+	private int recipeVersion = 0;
 
 	public ItemStackHandler bookSlot = new ItemStackHandler(1) {
 		@Nonnull
@@ -85,6 +86,7 @@ public class CraftingRecipeMemory {
 		InventoryTools.readInventoryFromNBT(outputSlot, tag.getCompoundTag("outputSlot"));
 		InventoryTools.readInventoryFromNBT(craftMatrix, tag.getCompoundTag("craftMatrix"));
 		recipe = AWCraftingManager.getRecipe(RecipeResourceLocation.deserialize(tag.getString("recipe")));
+		recipeVersion++;
 	}
 
 	public NBTTagCompound writeToNBT(NBTTagCompound tag) {
@@ -102,6 +104,15 @@ public class CraftingRecipeMemory {
 
 	private void updateOutput(InventoryCrafting craftingMatrix) {
 		outputSlot.setInventorySlotContents(0, recipe.getCraftingResult(craftingMatrix));
+		recipeVersion++;
+	}
+
+	/*
+	 * Incremented whenever the selected recipe or the crafting matrix changes so that users can tell when to recompute
+	 * anything derived from the recipe
+	 */
+	public int getRecipeVersion() {
+		return recipeVersion;
 	}
 
 	public ICraftingRecipe getRecipe() {
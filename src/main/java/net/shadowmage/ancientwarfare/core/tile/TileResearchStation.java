@@ -42,6 +42,7 @@ public class TileResearchStation extends TileOwned implements IWorkSite, ITorque
 	public final ItemStackHandler bookInventory = new ItemStackHandler(1) {
 		@Override
 		protected void onContentsChanged(int slot) {
+			flushProgress();
 			markDirty();
 		}
 
@@ -65,6 +66,15 @@ public class TileResearchStation extends TileOwned implements IWorkSite, ITorque
 	public EnumFacing inventoryDirection = EnumFacing.NORTH;
 	public EnumFacing inventorySide = EnumFacing.NORTH;
 
+	//how often the research progress derived from the start tick gets written to research data
+	private static final int PROGRESS_SYNC_TICKS = 20;
+
+	//research progress is the number of powered ticks since this tick, ticks without power push it forward
+	private long researchStartTick = -1;
+	private String trackedGoal = null;
+	private String trackedResearcher = null;
+	private int lastSyncedProgress = -1;
+
 	private double maxEnergyStored = 1600;
 	private double maxInput = 100;
 	private double storedEnergy;
@@ -170,12 +180,15 @@ public class TileResearchStation extends TileOwned implements IWorkSite, ITorque
 		Optional<String> goal = ResearchTracker.INSTANCE.getCurrentGoal(world, name);
 		boolean started = goal.isPresent();
 		if (started && storedEnergy >= AWCoreStatics.energyPerResearchUnit) {
-			workTick(name, goal.get(), 1);
+			workTick(name, goal.get());
 		} else if (!started) {
+			trackedGoal = null;
 			startCheckDelay--;
 			if (startCheckDelay <= 0) {
 				tryStartNextResearch(name);
 			}
+		} else if (researchStartTick >= 0) {
+			researchStartTick++;
 		}
 	}
 
@@ -204,6 +217,12 @@ public class TileResearchStation extends TileOwned implements IWorkSite, ITorque
 		}
 		this.inventoryDirection = EnumFacing.VALUES[tag.getInteger("inventoryDirection")];
 		this.inventorySide = EnumFacing.VALUES[tag.getInteger("inventorySide")];
+		if (tag.hasKey("researchStartTick")) {
+			researchStartTick = tag.getLong("researchStartTick");
+			trackedGoal = tag.getString("trackedGoal");
+			trackedResearcher = tag.getString("trackedResearcher");
+			lastSyncedProgress = tag.getInteger("lastSyncedProgress");
+		}
 	}
 
 	@Override
@@ -216,6 +235,13 @@ public class TileResearchStation extends TileOwned implements IWorkSite, ITorque
 		tag.setInteger(ORIENTATION_TAG, orientation.ordinal());
 		tag.setInteger("inventoryDirection", inventoryDirection.ordinal());
 		tag.setInteger("inventorySide", inventorySide.ordinal());
+		//total world time is saved with the world, so the start tick stays valid across restarts
+		if (trackedGoal != null && trackedResearcher != null && researchStartTick >= 0) {
+			tag.setLong("researchStartTick", researchStartTick);
+			tag.setString("trackedGoal", trackedGoal);
+			tag.setString("trackedResearcher", trackedResearcher);
+			tag.setInteger("lastSyncedProgress", lastSyncedProgress);
+		}
 		return tag;
 
 	}
@@ -225,20 +251,52 @@ public class TileResearchStation extends TileOwned implements IWorkSite, ITorque
 		return storedEnergy < maxEnergyStored;
 	}
 
-	private void workTick(String name, String goal, int tickCount) {
+	private void workTick(String name, String goal) {
+		long worldTime = world.getTotalWorldTime();
+		if (!goal.equals(trackedGoal) || !name.equals(trackedResearcher) || researchStartTick < 0) {
+			trackedGoal = goal;
+			trackedResearcher = name;
+			lastSyncedProgress = ResearchTracker.INSTANCE.getProgress(world, name);
+			researchStartTick = worldTime - lastSyncedProgress;
+		}
 		ResearchGoal g1 = ResearchRegistry.getResearch(goal);
-		int progress = ResearchTracker.INSTANCE.getProgress(world, name);
-		progress += tickCount;
+		int progress = (int) (worldTime + 1 - researchStartTick);
 		//noinspection ConstantConditions
 		if (progress >= g1.getTotalResearchTime()) {
 			ResearchTracker.INSTANCE.finishResearch(world, getCrafterName(), goal);
+			trackedGoal = null;
 			tryStartNextResearch(name);
-		} else {
-			ResearchTracker.INSTANCE.setProgress(world, name, progress);
+		} else if (progress - lastSyncedProgress >= PROGRESS_SYNC_TICKS) {
+			syncProgress(name, progress);
 		}
 		storedEnergy -= AWCoreStatics.energyPerResearchUnit;
 	}
 
+	private void flushProgress() {
+		if (hasWorld() && !world.isRemote && trackedGoal != null && trackedResearcher != null
+				&& ResearchTracker.INSTANCE.getCurrentGoal(world, trackedResearcher).map(trackedGoal::equals).orElse(false)) {
+			syncProgress(trackedResearcher, (int) (world.getTotalWorldTime() - researchStartTick));
+		}
+		trackedGoal = null;
+	}
+
+	@Override
+	public void onChunkUnload() {
+		flushProgress();
+		super.onChunkUnload();
+	}
+
+	private void syncProgress(String name, int progress) {
+		//progress may have been added from elsewhere (e.g. research notes) since the last sync
+		int externalProgress = ResearchTracker.INSTANCE.getProgress(world, name) - lastSyncedProgress;
+		if (externalProgress > 0) {
+			researchStartTick -= externalProgress;
+			progress += externalProgress;
+		}
+		ResearchTracker.INSTANCE.setProgress(world, name, progress);
+		lastSyncedProgress = progress;
+	}
+
 	private void tryStartNextResearch(String name) {
 		List<String> queue = ResearchTracker.INSTANCE.getResearchQueueFor(world, name);
 		if (!queue.isEmpty()) {
@@ -31,6 +31,7 @@ import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.world.BlockEvent;
 import net.shadowmage.ancientwarfare.core.config.AWCoreStatics;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
 import net.shadowmage.ancientwarfare.core.entity.AWFakePlayer;
 import net.shadowmage.ancientwarfare.core.util.parsing.PropertyState;
 import net.shadowmage.ancientwarfare.structure.config.AWStructureStatics;
@@ -128,7 +129,7 @@ public class BlockTools {
 
 		Vec3d var25 = player.getLook(1.0F);
 		float var27 = 1.0F;
-		List<Entity> entitiesPossiblyHitByVector = world.getEntitiesWithinAABBExcludingEntity(player, player.getEntityBoundingBox().expand(var25.x * reachLength, var25.y * reachLength, var25.z * reachLength).expand(var27, var27, var27));
+		List<Entity> entitiesPossiblyHitByVector = LargeEntityIndex.getEntitiesWithinAABBExcludingEntity(world, player, player.getEntityBoundingBox().expand(var25.x * reachLength, var25.y * reachLength, var25.z * reachLength).expand(var27, var27, var27));
 		for (Entity testEntity : entitiesPossiblyHitByVector) {
 			if (testEntity.canBeCollidedWith()) {
 				float bbExpansionSize = testEntity.getCollisionBorderSize();
@@ -8,6 +8,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -56,7 +57,7 @@ public class RayTraceUtils {
 		double maxY = y > ty ? y : ty;
 		double maxZ = z > tz ? z : tz;
 		AxisAlignedBB bb = new AxisAlignedBB(minX, minY, minZ, maxX, maxY, maxZ).expand(borderSize, borderSize, borderSize);
-		List<Entity> allEntities = world.getEntitiesWithinAABBExcludingEntity(null, bb);
+		List<Entity> allEntities = LargeEntityIndex.getEntitiesWithinAABBExcludingEntity(world, null, bb);
 		Entity closestHitEntity = null;
 		float closestHit = Float.POSITIVE_INFINITY;
 		float currentHit;
@@ -45,6 +45,8 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.shadowmage.ancientwarfare.core.interfaces.IEntityPacketHandler;
+import net.shadowmage.ancientwarfare.core.metrics.AWMetrics;
+import net.shadowmage.ancientwarfare.core.metrics.MetricGroup;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
 import net.shadowmage.ancientwarfare.core.network.PacketEntity;
 import net.shadowmage.ancientwarfare.core.owner.IOwnable;
@@ -82,6 +84,7 @@ public abstract class NpcBase extends EntityCreature implements IEntityAdditiona
 	private static final DataParameter<Byte> BED_DIRECTION = EntityDataManager.createKey(NpcBase.class, DataSerializers.BYTE);
 	private static final DataParameter<Boolean> IS_SLEEPING = EntityDataManager.createKey(NpcBase.class, DataSerializers.BOOLEAN);
 	private static final DataParameter<Boolean> SWINGING_ARMS = EntityDataManager.createKey(NpcBase.class, DataSerializers.BOOLEAN);
+	private static final MetricGroup METRICS = AWMetrics.group("npc");
 	private static final String SLOT_NUM_TAG = "slotNum";
 	private static final String BED_DIRECTION_TAG = "bedDirection";
 	private static final String IS_SLEEPING_TAG = "isSleeping";
@@ -764,6 +767,7 @@ public abstract class NpcBase extends EntityCreature implements IEntityAdditiona
 	@Override
 	public void onUpdate() {
 		world.profiler.startSection("AWNpcTick");
+		long start = world.isRemote ? AWMetrics.NOT_TIMED : AWMetrics.start();
 		updateArmSwingProgress();
 		if (ticksExisted % 200 == 0 && getHealth() < getMaxHealth() && isEntityAlive() && (!requiresUpkeep() || getFoodRemaining() > 0)) {
 			setHealth(getHealth() + 1);
@@ -772,6 +776,7 @@ public abstract class NpcBase extends EntityCreature implements IEntityAdditiona
 		if (!getHeldItemMainhand().isEmpty()) {
 			getHeldItemMainhand().updateAnimation(world, this, 0, true);
 		}
+		METRICS.recordSince(getClass(), start);
 		world.profiler.endSection();
 	}
 
@@ -19,28 +19,37 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.registry.EntityEntry;
+import net.minecraftforge.fml.common.registry.EntityRegistry;
 import net.shadowmage.ancientwarfare.core.gamedata.AWGameData;
 import net.shadowmage.ancientwarfare.core.util.TextUtils;
 import net.shadowmage.ancientwarfare.core.util.WorldTools;
 import net.shadowmage.ancientwarfare.npc.entity.NpcBase;
 import net.shadowmage.ancientwarfare.npc.entity.NpcPlayerOwned;
 import net.shadowmage.ancientwarfare.npc.entity.faction.NpcFaction;
+import net.shadowmage.ancientwarfare.npc.registry.FactionDefinition;
 import net.shadowmage.ancientwarfare.npc.registry.FactionRegistry;
 import net.shadowmage.ancientwarfare.npc.registry.NpcDefaultsRegistry;
+import net.shadowmage.ancientwarfare.npc.registry.OwnedNpcDefault;
+import net.shadowmage.ancientwarfare.structure.gamedata.StructureEntry;
 import net.shadowmage.ancientwarfare.structure.gamedata.StructureMap;
+import net.shadowmage.ancientwarfare.structure.gamedata.StructureProtectionIndex;
 import net.shadowmage.ancientwarfare.structure.init.AWStructureBlocks;
 import net.shadowmage.ancientwarfare.structure.tile.ISpecialLootContainer;
-import net.shadowmage.ancientwarfare.structure.tile.TileProtectionFlag;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nullable;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 public class EventHandler {
 	private Set<Predicate<EntityAIBase>> additionalHostileAIChecks = new HashSet<>();
+	//hostile AI priority and NPC targeting detected for the first instance of each creature class
+	private final Map<Class<? extends EntityCreature>, CreatureClassInfo> creatureClassInfos = new ConcurrentHashMap<>();
 	public static final EventHandler INSTANCE = new EventHandler();
 
 	private EventHandler() {
@@ -48,6 +57,22 @@ public class EventHandler {
 
 	public void registerAdditionalHostileAICheck(Predicate<EntityAIBase> aiCheck) {
 		additionalHostileAIChecks.add(aiCheck);
+		creatureClassInfos.clear();
+	}
+
+	/*
+	 * Instances whose target tasks differ in count from the first instance of their class (e.g. AI changed by another mod
+	 * for just this entity) get their priority detected on their own
+	 */
+	private CreatureClassInfo getCreatureClassInfo(EntityCreature entity) {
+		CreatureClassInfo info = creatureClassInfos.get(entity.getClass());
+		if (info == null) {
+			info = new CreatureClassInfo(entity.getClass(), entity.targetTasks.taskEntries.size(), getHostileAIPriority(entity));
+			creatureClassInfos.put(entity.getClass(), info);
+		} else if (info.targetTaskCount != entity.targetTasks.taskEntries.size()) {
+			info = new CreatureClassInfo(info, getHostileAIPriority(entity));
+		}
+		return info;
 	}
 
 	private int getHostileAIPriority(EntityCreature entity) {
@@ -81,25 +106,61 @@ public class EventHandler {
 		EntityCreature entity = (EntityCreature) event.getEntity();
 
 		// all mobs that can attack somebody should have targetTasks
-		int targetTaskPriority = getHostileAIPriority(entity);
-		if (targetTaskPriority != -1) {
-			entity.targetTasks.addTask(targetTaskPriority, new EntityAINearestAttackableTarget<>(entity, NpcBase.class, 0, true, false,
-					e -> entityShouldTarget(entity, e)
+		CreatureClassInfo info = getCreatureClassInfo(entity);
+		if (info.hostileAIPriority != -1) {
+			entity.targetTasks.addTask(info.hostileAIPriority, new EntityAINearestAttackableTarget<>(entity, NpcBase.class, 0, true, false,
+					e -> entityShouldTarget(info, e)
 			));
 		}
 	}
 
-	private boolean entityShouldTarget(EntityCreature entity, @Nullable NpcBase e) {
+	private boolean entityShouldTarget(CreatureClassInfo info, @Nullable NpcBase e) {
 		if (e == null) {
 			return false;
 		}
 
-		if ((e instanceof NpcFaction) && !e.isPassive() && FactionRegistry.getFaction(((NpcFaction) e).getFaction()).isTarget(entity)) {
+		if ((e instanceof NpcFaction) && !e.isPassive() && info.targetedByFactions.contains(((NpcFaction) e).getFaction())) {
 			return true;
 		}
 
-		return (e instanceof NpcPlayerOwned) && NpcDefaultsRegistry.getOwnedNpcDefault((NpcPlayerOwned) e).isTarget(entity);
+		return (e instanceof NpcPlayerOwned) && info.targetedByOwnedNpcTypes.contains(e.getNpcType());
+
+	}
+
+	private static class CreatureClassInfo {
+		private final int targetTaskCount;
+		private final int hostileAIPriority;
+		private final Set<String> targetedByFactions;
+		private final Set<String> targetedByOwnedNpcTypes;
+
+		private CreatureClassInfo(Class<? extends EntityCreature> entityClass, int targetTaskCount, int hostileAIPriority) {
+			this.targetTaskCount = targetTaskCount;
+			this.hostileAIPriority = hostileAIPriority;
+			targetedByFactions = new HashSet<>();
+			targetedByOwnedNpcTypes = new HashSet<>();
+			EntityEntry entry = EntityRegistry.getEntry(entityClass);
+			if (entry == null || entry.getRegistryName() == null) {
+				return;
+			}
+			String registryName = entry.getRegistryName().toString();
+			for (FactionDefinition faction : FactionRegistry.getFactionDefinitions()) {
+				if (faction.getTargetList().contains(registryName)) {
+					targetedByFactions.add(faction.getName());
+				}
+			}
+			for (Map.Entry<String, OwnedNpcDefault> ownedNpcDefault : NpcDefaultsRegistry.getOwnedNpcDefaults().entrySet()) {
+				if (ownedNpcDefault.getValue().getTargetList().contains(registryName)) {
+					targetedByOwnedNpcTypes.add(ownedNpcDefault.getKey());
+				}
+			}
+		}
 
+		private CreatureClassInfo(CreatureClassInfo classInfo, int hostileAIPriority) {
+			targetTaskCount = classInfo.targetTaskCount;
+			this.hostileAIPriority = hostileAIPriority;
+			targetedByFactions = classInfo.targetedByFactions;
+			targetedByOwnedNpcTypes = classInfo.targetedByOwnedNpcTypes;
+		}
 	}
 
 	@SubscribeEvent
@@ -108,27 +169,27 @@ public class EventHandler {
 		BlockPos pos = evt.getPos();
 		EntityPlayer player = evt.getEntityPlayer();
 		if (!player.capabilities.isCreativeMode && isContainer(world, pos)) {
+			Optional<StructureEntry> protectingStructure = StructureProtectionIndex.INSTANCE.getStructureProtectedAgainst(world, pos, player);
+			if (protectingStructure.isPresent()) {
+				evt.setCanceled(true);
+				evt.setCancellationResult(EnumActionResult.FAIL);
+				if (world.isRemote) {
+					player.sendStatusMessage(new TextComponentTranslation("gui.ancientwarfarenpc.no_chest_access_flag_not_claimed",
+							TextUtils.getSimpleBlockPosString(protectingStructure.get().getProtectionFlagPos())), true);
+				}
+				return;
+			}
 			AWGameData.INSTANCE.getData(world, StructureMap.class).getStructureAt(world, pos).ifPresent(structure -> {
-				Optional<TileProtectionFlag> tile = WorldTools.getTile(world, structure.getProtectionFlagPos(), TileProtectionFlag.class);
-				if (tile.isPresent() && tile.get().shouldProtectAgainst(player)) {
-					evt.setCanceled(true);
-					evt.setCancellationResult(EnumActionResult.FAIL);
-					if (world.isRemote) {
-						player.sendStatusMessage(new TextComponentTranslation("gui.ancientwarfarenpc.no_chest_access_flag_not_claimed",
-								TextUtils.getSimpleBlockPosString(structure.getProtectionFlagPos())), true);
-					}
-				} else {
-					for (NpcFaction factionNpc : world.getEntitiesWithinAABB(NpcFaction.class, structure.getBB().getAABB())) {
-						if (!factionNpc.isPassive()) {
-							evt.setCanceled(true);
-							evt.setCancellationResult(EnumActionResult.FAIL);
-							factionNpc.addPotionEffect(new PotionEffect(MobEffects.GLOWING, 100));
-							if (world.isRemote) {
-								player.sendStatusMessage(new TextComponentTranslation("gui.ancientwarfarenpc.no_chest_access",
-										StringUtils.capitalize(factionNpc.getFaction())), true);
-							}
-							return;
+				for (NpcFaction factionNpc : world.getEntitiesWithinAABB(NpcFaction.class, structure.getBB().getAABB())) {
+					if (!factionNpc.isPassive()) {
+						evt.setCanceled(true);
+						evt.setCancellationResult(EnumActionResult.FAIL);
+						factionNpc.addPotionEffect(new PotionEffect(MobEffects.GLOWING, 100));
+						if (world.isRemote) {
+							player.sendStatusMessage(new TextComponentTranslation("gui.ancientwarfarenpc.no_chest_access",
+									StringUtils.capitalize(factionNpc.getFaction())), true);
 						}
+						return;
 					}
 				}
 			});
@@ -142,13 +203,10 @@ public class EventHandler {
 		}
 
 		World world = evt.getEntityPlayer().world;
-		AWGameData.INSTANCE.getData(world, StructureMap.class).getStructureAt(world, evt.getPos()).ifPresent(
-				structureEntry -> WorldTools.getTile(world, structureEntry.getProtectionFlagPos(), TileProtectionFlag.class).ifPresent(tile -> {
-					if (tile.shouldProtectAgainst(evt.getEntityPlayer()) && shouldBlockSlowDownDigging(world, evt.getPos())) {
-						evt.setNewSpeed(evt.getOriginalSpeed() * 0.01f);
-					}
-				})
-		);
+		if (StructureProtectionIndex.INSTANCE.getStructureProtectedAgainst(world, evt.getPos(), evt.getEntityPlayer()).isPresent()
+				&& shouldBlockSlowDownDigging(world, evt.getPos())) {
+			evt.setNewSpeed(evt.getOriginalSpeed() * 0.01f);
+		}
 	}
 
 	private boolean shouldBlockSlowDownDigging(World world, BlockPos pos) {
@@ -49,6 +49,10 @@ public class NpcDefaultsRegistry {
 		return ownedNpcDefaults.get(npc.getNpcType());
 	}
 
+	public static Map<String, OwnedNpcDefault> getOwnedNpcDefaults() {
+		return Collections.unmodifiableMap(ownedNpcDefaults);
+	}
+
 	private static final String FACTION_NPC_PREFIX = "faction.";
 
 	public static class OwnedNpcDefaultsParser extends NpcDefaultsParserBase {
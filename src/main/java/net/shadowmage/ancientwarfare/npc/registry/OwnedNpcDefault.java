@@ -28,6 +28,10 @@ public class OwnedNpcDefault extends NpcDefault {
 				&& targetList.contains(EntityRegistry.getEntry(entity.getClass()).getRegistryName().toString());
 	}
 
+	public Set<String> getTargetList() {
+		return targetList;
+	}
+
 	@Override
 	public OwnedNpcDefault setExperienceDrop(int experienceDrop) {
 		return new OwnedNpcDefault(targetList, attributes, experienceDrop, canSwim, canBreakDoors, equipment);
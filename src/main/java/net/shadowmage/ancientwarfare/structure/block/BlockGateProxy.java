@@ -2,6 +2,7 @@ package net.shadowmage.ancientwarfare.structure.block;
 
 import codechicken.lib.model.DummyBakedModel;
 import codechicken.lib.model.ModelRegistryHelper;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -24,6 +25,7 @@ import net.shadowmage.ancientwarfare.core.proxy.IClientRegister;
 import net.shadowmage.ancientwarfare.core.util.ModelLoaderHelper;
 import net.shadowmage.ancientwarfare.core.util.WorldTools;
 import net.shadowmage.ancientwarfare.structure.AncientWarfareStructure;
+import net.shadowmage.ancientwarfare.structure.entity.EntityGate;
 import net.shadowmage.ancientwarfare.structure.render.GateProxyRenderer;
 import net.shadowmage.ancientwarfare.structure.tile.TEGateProxy;
 
@@ -81,6 +83,13 @@ public final class BlockGateProxy extends BlockContainer implements IClientRegis
 				? X_AXIS_AABB : Z_AXIS_AABB;
 	}
 
+	@Override
+	public void neighborChanged(IBlockState state, World world, BlockPos pos, Block block, BlockPos fromPos) {
+		if (!world.isRemote) {
+			WorldTools.getTile(world, pos, TEGateProxy.class).flatMap(TEGateProxy::getOwner).ifPresent(EntityGate::onProxyNeighborChanged);
+		}
+	}
+
 	@Override
 	public boolean canCollideCheck(IBlockState state, boolean hitIfLiquid) {
 		return true;
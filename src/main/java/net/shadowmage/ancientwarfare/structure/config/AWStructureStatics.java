@@ -36,6 +36,8 @@ public class AWStructureStatics extends ModConfiguration {
 	public static int spawnProtectionRange = 12;
 	public static int townClosestDistance = 40;
 	public static float townGenerationChance = 0.125f;
+	public static int townGenerationMaxDeferrals = 10;
+	public static int townGenerationDeferralTicks = 200;
 	public static Set<String> excludedSpawnerEntities = new HashSet<>();
 	private static HashSet<String> skippableWorldGenBlocks = new HashSet<>();
 	private static HashSet<String> worldGenTargetBlocks = new HashSet<>();
@@ -76,6 +78,8 @@ public class AWStructureStatics extends ModConfiguration {
 
 		townClosestDistance = config.get(worldGenCategory, "town_min_distance", townClosestDistance, "Default=" + townClosestDistance + "\n" + "Minimum distance between towns.  This should be set to a value quite a bit larger than the largest town" + "that you have configured for generation.  E.G.  Max town size=16, this value should be >= 40.").getInt(townClosestDistance);
 		townGenerationChance = (float) config.get(worldGenCategory, "town_generation_chance", townGenerationChance, "Default=" + townGenerationChance + "\n" + "Accepts values between 0 and 1.0.  Decimal percent chance to -attempt- town generation for any given chunk.  Higher settings may result in" + "more towns being generated, but may come with a performance hit during new chunk generation.  Lower values WILL result in fewer towns, and" + "-may- improve performance during chunk generation.").getDouble(townGenerationChance);
+		townGenerationMaxDeferrals = config.get(worldGenCategory, "town_generation_max_deferrals", townGenerationMaxDeferrals, "Default=" + townGenerationMaxDeferrals + "\n" + "Town sites are only evaluated on chunks that are already generated.  If a town area could grow into chunks that are not generated yet\n" + "the attempt is retried later up to this many times before the town is placed within the chunks that exist at that point.").getInt(townGenerationMaxDeferrals);
+		townGenerationDeferralTicks = config.get(worldGenCategory, "town_generation_deferral_ticks", townGenerationDeferralTicks, "Default=" + townGenerationDeferralTicks + "\n" + "Number of ticks to wait before retrying a deferred town generation attempt.").getInt(townGenerationDeferralTicks);
 
 		initializeDefaultSkippableBlocks();
 		initializeDefaultSkippedEntities();
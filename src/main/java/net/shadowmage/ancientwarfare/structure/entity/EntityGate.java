@@ -19,6 +19,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.fml.common.registry.IEntityAdditionalSpawnData;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
 import net.shadowmage.ancientwarfare.core.interfaces.IEntityPacketHandler;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
 import net.shadowmage.ancientwarfare.core.network.PacketEntity;
@@ -55,9 +56,10 @@ public class EntityGate extends Entity implements IEntityAdditionalSpawnData, IE
 	public EnumFacing gateOrientation = EnumFacing.SOUTH;
 	private int hurtInvulTicks = 0;
 
-	private boolean hasSetWorldEntityRadius = false;
+	private AxisAlignedBB gateBounds = null;
 	private boolean wasPoweredA = false;
 	private boolean wasPoweredB = false;
+	private boolean powerCheckPending = true;//redstone is sampled on load and after a neighbor change of one of the gate's proxy blocks
 	private AxisAlignedBB renderBoundingBox = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
 
 	private TEGateProxy renderedTile = null;
@@ -120,6 +122,7 @@ public class EntityGate extends Entity implements IEntityAdditionalSpawnData, IE
 	@Override
 	public void setDead() {
 		super.setDead();
+		LargeEntityIndex.INSTANCE.remove(this);
 		if (!this.world.isRemote) {
 			//catch gates that have proxy blocks still in the world
 			gateType.onGateStartOpen(this);
@@ -240,7 +243,6 @@ public class EntityGate extends Entity implements IEntityAdditionalSpawnData, IE
 	}
 
 	@Override
-	@SuppressWarnings("squid:S2696") //World.MAX_ENTITY_RADIUS is static and can only be set this way, also just running in the main thread makes this safe
 	public void onUpdate() {
 		super.onUpdate();
 		float prevEdge = this.edgePosition;
@@ -270,27 +272,23 @@ public class EntityGate extends Entity implements IEntityAdditionalSpawnData, IE
 		}
 		this.openingSpeed = prevEdge - this.edgePosition;
 
-		if (!hasSetWorldEntityRadius) {
-			hasSetWorldEntityRadius = true;
-			BlockPos min = BlockTools.getMin(pos1, pos2);
-			BlockPos max = BlockTools.getMax(pos1, pos2);
-			int xSize = max.getX() - min.getX() + 1;
-			int zSize = max.getZ() - min.getZ() + 1;
-			int ySize = max.getY() - min.getY() + 1;
-			int largest = xSize > ySize ? xSize : ySize;
-			largest = largest > zSize ? largest : zSize;
-			largest = (largest / 2) + 1;
-			if (World.MAX_ENTITY_RADIUS < largest) {
-				World.MAX_ENTITY_RADIUS = largest;
-			}
+		if (gateBounds == null) {
+			gateBounds = new AxisAlignedBB(BlockTools.getMin(pos1, pos2), BlockTools.getMax(pos1, pos2).add(1, 1, 1));
 		}
+		//gates wider or taller than MAX_ENTITY_RADIUS are found by collision and AW entity queries through the large entity index
+		LargeEntityIndex.INSTANCE.update(this, getEntityBoundingBox().union(gateBounds));
+
+	}
 
+	public void onProxyNeighborChanged() {
+		powerCheckPending = true;
 	}
 
 	private void checkForPowerUpdates() {
-		if (this.world.isRemote) {
+		if (this.world.isRemote || !powerCheckPending) {
 			return;
 		}
+		powerCheckPending = false;
 		boolean activate = false;
 		int y = Math.min(pos2.getY(), pos1.getY());
 		boolean foundPowerA = this.world.isBlockIndirectlyGettingPowered(new BlockPos(pos1.getX(), y, pos1.getZ())) > 0;
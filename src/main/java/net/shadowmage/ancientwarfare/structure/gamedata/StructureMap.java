@@ -16,6 +16,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,6 +34,7 @@ public class StructureMap extends WorldSavedData {
 	public void readFromNBT(NBTTagCompound nbttagcompound) {
 		NBTTagCompound mapTag = nbttagcompound.getCompoundTag("map");
 		map.readFromNBT(mapTag);
+		StructureProtectionIndex.INSTANCE.onStructuresChanged();
 	}
 
 	@Override
@@ -67,16 +70,31 @@ public class StructureMap extends WorldSavedData {
 
 	public void setGeneratedAt(int dimension, int cx, int cz, StructureEntry entry, boolean unique) {
 		map.setGeneratedAt(dimension, cx, cz, entry, unique);
+		StructureProtectionIndex.INSTANCE.onStructuresChanged();
 		markDirty();
 		NetworkHandler.sendToAllPlayers(new PacketStructureEntry(dimension, cx, cz, entry, unique));
 	}
 
+	/*
+	 * Sets the flag pos of a structure of this map and marks the structure to be saved
+	 */
+	public void setProtectionFlagPos(World world, StructureEntry entry, BlockPos flagPos) {
+		if (flagPos.equals(entry.getProtectionFlagPos())) {
+			return;
+		}
+		entry.setProtectionFlagPos(flagPos);
+		map.onEntryChanged(world.provider.getDimension(), entry);
+		StructureProtectionIndex.INSTANCE.onStructuresChanged();
+		markDirty();
+	}
+
 	public boolean isGeneratedUnique(String name) {
 		return this.map.generatedUniques.contains(name);
 	}
 
 	public void synchronizeFromNBT(NBTTagCompound mapTag) {
 		map.readFromNBT(mapTag);
+		StructureProtectionIndex.INSTANCE.onStructuresChanged();
 	}
 
 	private class StructureDimensionMap {
@@ -90,6 +108,12 @@ public class StructureMap extends WorldSavedData {
 			return Collections.emptyList();
 		}
 
+		private void onEntryChanged(int dimension, StructureEntry entry) {
+			if (mapsByDimension.containsKey(dimension)) {
+				mapsByDimension.get(dimension).entryTags.remove(entry);
+			}
+		}
+
 		private void setGeneratedAt(int dimension, int chunkX, int chunkZ, StructureEntry entry, boolean unique) {
 			if (!this.mapsByDimension.containsKey(dimension)) {
 				this.mapsByDimension.put(dimension, new StructureWorldMap());
@@ -142,9 +166,14 @@ public class StructureMap extends WorldSavedData {
 		}
 	}//end structure dimension map
 
+	/*
+	 * Keeps the saved tag of every entry that didn't change since it was last read or written, so saving a large map only
+	 * serializes the entries added or changed since the last save instead of all of them.
+	 */
 	public class StructureWorldMap {
 
 		private HashMap<Integer, HashMap<Integer, StructureEntry>> worldMap = new HashMap<>();
+		private Map<StructureEntry, NBTTagCompound> entryTags = new IdentityHashMap<>();
 		private int largestGeneratedX;
 		private int largestGeneratedZ;
 
@@ -173,7 +202,10 @@ public class StructureMap extends WorldSavedData {
 			if (!this.worldMap.containsKey(chunkX)) {
 				this.worldMap.put(chunkX, new HashMap<>());
 			}
-			this.worldMap.get(chunkX).put(chunkZ, entry);
+			StructureEntry previous = this.worldMap.get(chunkX).put(chunkZ, entry);
+			if (previous != null) {
+				entryTags.remove(previous);
+			}
 			int x = entry.bb.getXSize();
 			int z = entry.bb.getZSize();
 			if (x > largestGeneratedX) {
@@ -199,7 +231,11 @@ public class StructureMap extends WorldSavedData {
 				if (!this.worldMap.containsKey(x)) {
 					this.worldMap.put(x, new HashMap<>());
 				}
-				this.worldMap.get(x).put(z, entry);
+				StructureEntry previous = this.worldMap.get(x).put(z, entry);
+				if (previous != null) {
+					entryTags.remove(previous);
+				}
+				entryTags.put(entry, entryTag);
 			}
 			this.largestGeneratedX = nbttagcompound.getInteger("largestX");
 			this.largestGeneratedZ = nbttagcompound.getInteger("largestZ");
@@ -210,10 +246,15 @@ public class StructureMap extends WorldSavedData {
 			NBTTagCompound entryTag;
 			for (Integer x : this.worldMap.keySet()) {
 				for (Integer z : this.worldMap.get(x).keySet()) {
-					entryTag = new NBTTagCompound();
-					entryTag.setInteger("x", x);
-					entryTag.setInteger("z", z);
-					this.worldMap.get(x).get(z).writeToNBT(entryTag);
+					StructureEntry entry = this.worldMap.get(x).get(z);
+					entryTag = entryTags.get(entry);
+					if (entryTag == null) {
+						entryTag = new NBTTagCompound();
+						entryTag.setInteger("x", x);
+						entryTag.setInteger("z", z);
+						entry.writeToNBT(entryTag);
+						entryTags.put(entry, entryTag);
+					}
 					entryList.appendTag(entryTag);
 				}
 			}
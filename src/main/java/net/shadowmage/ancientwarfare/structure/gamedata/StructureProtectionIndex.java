@@ -0,0 +1,110 @@
+package net.shadowmage.ancientwarfare.structure.gamedata;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.shadowmage.ancientwarfare.core.gamedata.AWGameData;
+import net.shadowmage.ancientwarfare.core.owner.Owner;
+import net.shadowmage.ancientwarfare.core.util.WorldTools;
+import net.shadowmage.ancientwarfare.structure.tile.TileProtectionFlag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Per chunk lists of the structures with a protection flag and the cached owner of each flag, so that protection checks
+ * for a block (done every tick while a player digs) are a map lookup and a bounding box test instead of a structure map
+ * neighborhood scan and a tile entity lookup.
+ *
+ * Chunk lists are built the first time a chunk is queried and thrown away whenever the structure map changes. Flag owners
+ * are looked up once and then kept current by the flag tiles.
+ */
+public class StructureProtectionIndex {
+	public static final StructureProtectionIndex INSTANCE = new StructureProtectionIndex();
+
+	private final Map<World, WorldIndex> worldIndexes = new ConcurrentHashMap<>();
+
+	private StructureProtectionIndex() {}
+
+	/*
+	 * Structure with a protection flag that contains the position and whose flag protects it against the player
+	 */
+	public Optional<StructureEntry> getStructureProtectedAgainst(World world, BlockPos pos, EntityPlayer player) {
+		WorldIndex index = getIndex(world);
+		for (StructureEntry structure : index.getStructuresInChunk(world, pos.getX() >> 4, pos.getZ() >> 4)) {
+			if (structure.getBB().contains(pos)) {
+				Optional<Owner> flagOwner = index.getFlagOwner(world, structure.getProtectionFlagPos());
+				return flagOwner.isPresent() && !flagOwner.get().isOwnerOrSameTeamOrFriend(player) ? Optional.of(structure) : Optional.empty();
+			}
+		}
+		return Optional.empty();
+	}
+
+	public void onFlagOwnerChanged(World world, BlockPos flagPos, Owner owner) {
+		getIndex(world).flagOwners.put(flagPos, Optional.of(owner));
+	}
+
+	public void onFlagRemoved(World world, BlockPos flagPos) {
+		getIndex(world).flagOwners.put(flagPos, Optional.empty());
+	}
+
+	/*
+	 * Has to be called when structures are added or their protection flag changes
+	 */
+	public void onStructuresChanged() {
+		for (WorldIndex index : worldIndexes.values()) {
+			index.structuresByChunk.clear();
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		worldIndexes.remove(evt.getWorld());
+	}
+
+	private WorldIndex getIndex(World world) {
+		return worldIndexes.computeIfAbsent(world, w -> new WorldIndex());
+	}
+
+	private static class WorldIndex {
+		private final Map<Long, List<StructureEntry>> structuresByChunk = new ConcurrentHashMap<>();
+		private final Map<BlockPos, Optional<Owner>> flagOwners = new HashMap<>();
+
+		private List<StructureEntry> getStructuresInChunk(World world, int chunkX, int chunkZ) {
+			return structuresByChunk.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), k -> findProtectedStructures(world, chunkX, chunkZ));
+		}
+
+		private List<StructureEntry> findProtectedStructures(World world, int chunkX, int chunkZ) {
+			List<StructureEntry> ret = new ArrayList<>();
+			int minX = chunkX << 4;
+			int minZ = chunkZ << 4;
+			for (StructureEntry structure : AWGameData.INSTANCE.getData(world, StructureMap.class).getEntriesNear(world, minX, minZ, 1, true, new ArrayList<>())) {
+				BlockPos min = structure.getBB().min;
+				BlockPos max = structure.getBB().max;
+				if (!structure.getProtectionFlagPos().equals(BlockPos.ORIGIN) && min.getX() < minX + 16 && max.getX() >= minX && min.getZ() < minZ + 16
+						&& max.getZ() >= minZ) {
+					ret.add(structure);
+				}
+			}
+			return ret.isEmpty() ? Collections.emptyList() : ret;
+		}
+
+		private Optional<Owner> getFlagOwner(World world, BlockPos flagPos) {
+			Optional<Owner> owner = flagOwners.get(flagPos);
+			//noinspection OptionalAssignedToNull
+			if (owner == null) {
+				owner = WorldTools.getTile(world, flagPos, TileProtectionFlag.class).map(TileProtectionFlag::getOwner);
+				flagOwners.put(flagPos, owner);
+			}
+			return owner;
+		}
+	}
+}
@@ -3,18 +3,26 @@ package net.shadowmage.ancientwarfare.structure.gamedata;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.util.Constants;
 import net.shadowmage.ancientwarfare.core.util.Trig;
 import net.shadowmage.ancientwarfare.structure.template.build.StructureBB;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 //TODO world capability
 public class TownMap extends WorldSavedData {
+	//towns are indexed in a grid of 256x256 block cells, they are added to every cell their bounding box overlaps
+	private static final int CELL_SHIFT = 8;
+	private static final int CELL_SIZE = 1 << CELL_SHIFT;
 
 	private List<StructureBB> boundingBoxes = new ArrayList<>();
+	private final Map<Long, List<StructureBB>> boundingBoxesByCell = new HashMap<>();
 
 	public TownMap(String name) {
 		super(name);
@@ -22,43 +30,78 @@ public class TownMap extends WorldSavedData {
 
 	public void setGenerated(StructureBB bb) {
 		boundingBoxes.add(bb);
+		addToIndex(bb);
 		markDirty();
 	}
 
+	private void addToIndex(StructureBB bb) {
+		for (int cellX = bb.min.getX() >> CELL_SHIFT; cellX <= bb.max.getX() >> CELL_SHIFT; cellX++) {
+			for (int cellZ = bb.min.getZ() >> CELL_SHIFT; cellZ <= bb.max.getZ() >> CELL_SHIFT; cellZ++) {
+				boundingBoxesByCell.computeIfAbsent(ChunkPos.asLong(cellX, cellZ), k -> new ArrayList<>()).add(bb);
+			}
+		}
+	}
+
+	private List<StructureBB> getCell(int cellX, int cellZ) {
+		return boundingBoxesByCell.getOrDefault(ChunkPos.asLong(cellX, cellZ), Collections.emptyList());
+	}
+
 	/*
 	 * return the distance of the closest found town or defaultVal if no town was found closer
 	 */
 	public float getClosestTown(int bx, int bz, float defaultVal) {
 		float distance = defaultVal;
-		float d;
-		if (boundingBoxes != null) {
-			for (StructureBB bb : boundingBoxes) {
-				d = Trig.getDistance(bx, 0, bz, bb.getCenterX(), 0, bb.getCenterZ());
-				if (d < distance) {
-					distance = d;
+		int cellX = bx >> CELL_SHIFT;
+		int cellZ = bz >> CELL_SHIFT;
+		int maxRing = (int) Math.ceil(defaultVal / CELL_SIZE);
+		//search rings of cells around the position, anything in ring r + 1 is at least r cells away
+		for (int ring = 0; ring <= maxRing && distance > (ring - 1) * CELL_SIZE; ring++) {
+			for (int x = cellX - ring; x <= cellX + ring; x++) {
+				for (int z = cellZ - ring; z <= cellZ + ring; z++) {
+					if (Math.abs(x - cellX) != ring && Math.abs(z - cellZ) != ring) {
+						continue;
+					}
+					distance = getClosestTownInCell(x, z, bx, bz, distance);
 				}
 			}
 		}
 		return distance;
 	}
 
+	private float getClosestTownInCell(int cellX, int cellZ, int bx, int bz, float distance) {
+		float d;
+		for (StructureBB bb : getCell(cellX, cellZ)) {
+			//towns spanning several cells are only measured from the cell their center is in
+			if (bb.getCenterX() >> CELL_SHIFT != cellX || bb.getCenterZ() >> CELL_SHIFT != cellZ) {
+				continue;
+			}
+			d = Trig.getDistance(bx, 0, bz, bb.getCenterX(), 0, bb.getCenterZ());
+			if (d < distance) {
+				distance = d;
+			}
+		}
+		return distance;
+	}
+
 	public boolean isChunkInUse(int cx, int cz) {
-		if (!boundingBoxes.isEmpty()) {
-			cx *= 16;
-			cz *= 16;
-			for (StructureBB bb : boundingBoxes) {
-				if (bb.isPositionIn(cx, bb.min.getY(), cz)) {
-					return true;
-				}
+		cx *= 16;
+		cz *= 16;
+		for (StructureBB bb : getCell(cx >> CELL_SHIFT, cz >> CELL_SHIFT)) {
+			if (bb.isPositionIn(cx, bb.min.getY(), cz)) {
+				return true;
 			}
 		}
 		return false;
 	}
 
 	public boolean intersectsWithTown(StructureBB bb) {
-		for (StructureBB tbb : boundingBoxes) {
-			if (tbb.crossWith(bb)) {
-				return true;
+		for (int cellX = bb.min.getX() >> CELL_SHIFT; cellX <= bb.max.getX() >> CELL_SHIFT; cellX++) {
+			for (int cellZ = bb.min.getZ() >> CELL_SHIFT; cellZ <= bb.max.getZ() >> CELL_SHIFT; cellZ++) {
+				for (StructureBB tbb : getCell(cellX, cellZ)) {
+					if (tbb.crossWith(bb)) {
+						return true;
+					}
+				}
 			}
 		}
 		return false;
@@ -69,10 +112,12 @@ public class TownMap extends WorldSavedData {
 		StructureBB bb;
 		NBTTagList list = tag.getTagList("boundingBoxes", Constants.NBT.TAG_COMPOUND);
 		boundingBoxes.clear();
+		boundingBoxesByCell.clear();
 		for (int i = 0; i < list.tagCount(); i++) {
 			bb = new StructureBB(BlockPos.ORIGIN, BlockPos.ORIGIN);
 			bb.deserializeNBT(list.getCompoundTagAt(i));
 			boundingBoxes.add(bb);
+			addToIndex(bb);
 		}
 	}
 
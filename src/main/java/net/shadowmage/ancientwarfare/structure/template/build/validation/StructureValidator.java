@@ -19,6 +19,7 @@ import net.shadowmage.ancientwarfare.structure.config.AWStructureStatics;
 import net.shadowmage.ancientwarfare.structure.template.StructureTemplate;
 import net.shadowmage.ancientwarfare.structure.template.build.StructureBB;
 import net.shadowmage.ancientwarfare.structure.template.build.validation.properties.IStructureValidationProperty;
+import net.shadowmage.ancientwarfare.structure.worldgen.SurfaceCache;
 import net.shadowmage.ancientwarfare.structure.worldgen.WorldStructureGenerator;
 
 import java.io.BufferedWriter;
@@ -356,7 +357,12 @@ public abstract class StructureValidator {
 	 * validates both top block height and block type for the input position and settings
 	 */
 	boolean validateBlockHeightAndType(World world, int x, int z, int min, int max, boolean skipWater, Predicate<IBlockState> isValidState) {
-		return validateBlockType(world, x, validateBlockHeight(world, x, z, min, max, skipWater), z, isValidState);
+		int y = validateBlockHeight(world, x, z, min, max, skipWater);
+		if (y <= 0 || y >= world.getHeight()) {
+			return false;
+		}
+		//the top block found by the height check is already known, no need to look it up again
+		return validateBlockType(x, y, z, SurfaceCache.INSTANCE.getTopState(world, x, z, skipWater), isValidState);
 	}
 
 	private boolean validateBlockHeightTypeAndBiome(World world, int x, int z, int min, int max, boolean skipWater, Predicate<IBlockState> isValidState) {
@@ -389,11 +395,7 @@ public abstract class StructureValidator {
 	/*
 	 * validates the target block at x,y,z is one of the input valid blocks
 	 */
-	private boolean validateBlockType(World world, int x, int y, int z, Predicate<IBlockState> isValidState) {
-		if (y <= 0 || y >= world.getHeight()) {
-			return false;
-		}
-		IBlockState state = world.getBlockState(new BlockPos(x, y, z));
+	private boolean validateBlockType(int x, int y, int z, IBlockState state, Predicate<IBlockState> isValidState) {
 		Block block = state.getBlock();
 		if (block == Blocks.AIR) {
 			AncientWarfareStructure.LOG.debug("rejected for non-matching block: air at: {},{},{} ", x, y, z);
@@ -0,0 +1,177 @@
+package net.shadowmage.ancientwarfare.structure.tile;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Wakes advanced spawners up only while a player is within their player range, so spawners nobody is near skip their
+ * update entirely. Spawners are bucketed by chunk and every few ticks the buckets around each player are checked, which
+ * costs per player and the spawners near them instead of per spawner in the loaded chunks.
+ *
+ * Also serves the nearby living entity counts of the spawners from a per chunk census that is reused for a few ticks.
+ */
+public class SpawnerProximityService {
+	public static final SpawnerProximityService INSTANCE = new SpawnerProximityService();
+
+	private static final int WAKE_CHECK_TICKS = 10;
+	private static final int CENSUS_TICKS = 20;
+
+	private final Map<World, WorldSpawners> worldSpawners = new IdentityHashMap<>();
+
+	private SpawnerProximityService() {}
+
+	void register(TileAdvancedSpawner spawner) {
+		WorldSpawners spawners = getWorldSpawners(spawner.getWorld());
+		spawners.spawnersByChunk.computeIfAbsent(ChunkPos.asLong(spawner.getPos().getX() >> 4, spawner.getPos().getZ() >> 4), k -> new LinkedHashSet<>())
+				.add(spawner);
+		//only ever grows, a too large range just checks a few more chunks
+		spawners.maxPlayerRange = Math.max(spawners.maxPlayerRange, spawner.getSettings().getPlayerRange());
+	}
+
+	void unregister(TileAdvancedSpawner spawner) {
+		WorldSpawners spawners = worldSpawners.get(spawner.getWorld());
+		if (spawners == null) {
+			return;
+		}
+		long key = ChunkPos.asLong(spawner.getPos().getX() >> 4, spawner.getPos().getZ() >> 4);
+		Set<TileAdvancedSpawner> chunkSpawners = spawners.spawnersByChunk.get(key);
+		if (chunkSpawners != null && chunkSpawners.remove(spawner) && chunkSpawners.isEmpty()) {
+			spawners.spawnersByChunk.remove(key);
+		}
+	}
+
+	/*
+	 * Number of living entities whose bounding box intersects the box, may be up to CENSUS_TICKS old.
+	 * Like World.getEntitiesWithinAABB this looks into the chunks within MAX_ENTITY_RADIUS of the box as entities are
+	 * stored in the chunk of their position but may stick out of it.
+	 */
+	int countLivingWithin(World world, AxisAlignedBB bb) {
+		WorldSpawners spawners = getWorldSpawners(world);
+		int count = 0;
+		for (int cx = getMinChunk(bb.minX); cx <= getMaxChunk(bb.maxX); cx++) {
+			for (int cz = getMinChunk(bb.minZ); cz <= getMaxChunk(bb.maxZ); cz++) {
+				for (EntityLivingBase entity : spawners.getCensus(world, cx, cz)) {
+					if (!entity.isDead && entity.getEntityBoundingBox().intersects(bb)) {
+						count++;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/*
+	 * Drops the census of the chunks overlapping the box so that entities just spawned there are counted right away
+	 */
+	void invalidateCensus(World world, AxisAlignedBB bb) {
+		WorldSpawners spawners = getWorldSpawners(world);
+		for (int cx = getMinChunk(bb.minX); cx <= getMaxChunk(bb.maxX); cx++) {
+			for (int cz = getMinChunk(bb.minZ); cz <= getMaxChunk(bb.maxZ); cz++) {
+				spawners.census.remove(ChunkPos.asLong(cx, cz));
+			}
+		}
+	}
+
+	private static int getMinChunk(double min) {
+		return MathHelper.floor((min - World.MAX_ENTITY_RADIUS) / 16.0D);
+	}
+
+	private static int getMaxChunk(double max) {
+		return MathHelper.floor((max + World.MAX_ENTITY_RADIUS) / 16.0D);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != TickEvent.Phase.START || evt.world.isRemote || evt.world.getTotalWorldTime() % WAKE_CHECK_TICKS != 0) {
+			return;
+		}
+		WorldSpawners spawners = worldSpawners.get(evt.world);
+		if (spawners == null) {
+			return;
+		}
+		long time = evt.world.getTotalWorldTime();
+		spawners.census.values().removeIf(chunkCensus -> time - chunkCensus.time >= CENSUS_TICKS);
+		if (spawners.spawnersByChunk.isEmpty()) {
+			return;
+		}
+		long awakeUntil = time + WAKE_CHECK_TICKS;
+		int maxRange = spawners.maxPlayerRange;
+		for (EntityPlayer player : evt.world.playerEntities) {
+			AxisAlignedBB playerBounds = player.getEntityBoundingBox();
+			int minChunkX = MathHelper.floor(playerBounds.minX - maxRange - 1) >> 4;
+			int maxChunkX = MathHelper.floor(playerBounds.maxX + maxRange) >> 4;
+			int minChunkZ = MathHelper.floor(playerBounds.minZ - maxRange - 1) >> 4;
+			int maxChunkZ = MathHelper.floor(playerBounds.maxZ + maxRange) >> 4;
+			for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+				for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+					Set<TileAdvancedSpawner> chunkSpawners = spawners.spawnersByChunk.get(ChunkPos.asLong(cx, cz));
+					if (chunkSpawners == null) {
+						continue;
+					}
+					for (TileAdvancedSpawner spawner : chunkSpawners) {
+						if (spawner.getSettings().isPlayerInRange(playerBounds)) {
+							spawner.wakeUntil(awakeUntil);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		worldSpawners.remove(evt.getWorld());
+	}
+
+	private WorldSpawners getWorldSpawners(World world) {
+		return worldSpawners.computeIfAbsent(world, w -> new WorldSpawners());
+	}
+
+	private static class WorldSpawners {
+		private final Map<Long, Set<TileAdvancedSpawner>> spawnersByChunk = new HashMap<>();
+		private final Map<Long, Census> census = new HashMap<>();
+		private int maxPlayerRange;
+
+		private List<EntityLivingBase> getCensus(World world, int chunkX, int chunkZ) {
+			long key = ChunkPos.asLong(chunkX, chunkZ);
+			Census chunkCensus = census.get(key);
+			if (chunkCensus == null || world.getTotalWorldTime() - chunkCensus.time >= CENSUS_TICKS) {
+				chunkCensus = new Census(world.getTotalWorldTime());
+				Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+				if (chunk != null) {
+					//all living entities stored in the chunk, including the parts sticking out of it
+					AxisAlignedBB chunkBounds = new AxisAlignedBB(chunkX << 4, 0, chunkZ << 4, (chunkX + 1) << 4, world.getHeight(), (chunkZ + 1) << 4)
+							.grow(World.MAX_ENTITY_RADIUS);
+					chunk.getEntitiesOfTypeWithinAABB(EntityLivingBase.class, chunkBounds, chunkCensus.entities, null);
+				}
+				census.put(key, chunkCensus);
+			}
+			return chunkCensus.entities;
+		}
+	}
+
+	private static class Census {
+		private final long time;
+		private final List<EntityLivingBase> entities = new ArrayList<>();
+
+		private Census(long time) {
+			this.time = time;
+		}
+	}
+}
@@ -4,7 +4,6 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityAgeable;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.EntityLiving;
-import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -128,6 +127,16 @@ public class SpawnerSettings {
 		}
 	}
 
+	/*
+	 * Called instead of onUpdate while no player is in range, keeps track of the redstone state so that pulse mode doesn't
+	 * see a rising edge when a player comes by a spawner that was powered in the meantime
+	 */
+	void onSleepingUpdate() {
+		if (respondToRedstone && redstoneMode) {
+			prevRedstoneState = world.isBlockIndirectlyGettingPowered(pos) > 0 || world.getStrongPower(pos) > 0;
+		}
+	}
+
 	private void updateRedstoneModeToggle() {
 		prevRedstoneState = world.isBlockIndirectlyGettingPowered(pos) > 0 || world.getStrongPower(pos) > 0;
 		if (respondToRedstone && !redstoneMode && !prevRedstoneState) {
@@ -168,7 +177,7 @@ public class SpawnerSettings {
 			return;
 
 		if (maxNearbyMonsters > 0 && mobRange > 0) {
-			int nearbyCount = world.getEntitiesWithinAABB(EntityLivingBase.class, new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(mobRange, mobRange, mobRange)).size();
+			int nearbyCount = SpawnerProximityService.INSTANCE.countLivingWithin(world, new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(mobRange, mobRange, mobRange));
 			if (nearbyCount >= maxNearbyMonsters) {
 				AncientWarfareStructure.LOG.debug("skipping spawning because of too many nearby entities");
 				return;
@@ -197,6 +206,7 @@ public class SpawnerSettings {
 
 		if (toSpawn != null) {
 			toSpawn.spawnEntities(world, pos, index, range);
+			SpawnerProximityService.INSTANCE.invalidateCensus(world, new AxisAlignedBB(pos).grow(range + mobRange));
 			if (toSpawn.shouldRemove()) {
 				spawnGroups.remove(toSpawn);
 			}
@@ -225,15 +235,24 @@ public class SpawnerSettings {
 
 	private List<EntityPlayer> getPlayersWithinAABB() {
 		List<EntityPlayer> players = new ArrayList<>();
+		AxisAlignedBB playerRangeBounds = getPlayerRangeBounds();
 
 		for (EntityPlayer player : world.playerEntities) {
-			if (player.getEntityBoundingBox().intersects(new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(playerRange, playerRange, playerRange))) {
+			if (player.getEntityBoundingBox().intersects(playerRangeBounds)) {
 				players.add(player);
 			}
 		}
 		return players;
 	}
 
+	boolean isPlayerInRange(AxisAlignedBB playerBounds) {
+		return playerRange > 0 && playerBounds.intersects(getPlayerRangeBounds());
+	}
+
+	private AxisAlignedBB getPlayerRangeBounds() {
+		return new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(playerRange, playerRange, playerRange);
+	}
+
 	public NBTTagCompound writeToNBT(NBTTagCompound tag) {
 		tag.setBoolean(RESPOND_TO_REDSTONE_TAG, respondToRedstone);
 		if (respondToRedstone) {
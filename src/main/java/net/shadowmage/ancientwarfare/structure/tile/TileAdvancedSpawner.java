@@ -13,6 +13,8 @@ import net.shadowmage.ancientwarfare.core.util.BlockTools;
 public class TileAdvancedSpawner extends TileUpdatable implements ITickable, IBlockBreakHandler {
 
 	private SpawnerSettings settings = new SpawnerSettings();
+	private boolean registered = false;
+	private long awakeUntil = -1;
 
 	@Override
 	public void setWorld(World world) {
@@ -34,9 +36,41 @@ public class TileAdvancedSpawner extends TileUpdatable implements ITickable, IBl
 		if (!settings.hasWorld()) {
 			settings.setWorld(world, pos);
 		}
+		if (!registered) {
+			SpawnerProximityService.INSTANCE.register(this);
+			registered = true;
+		}
+		//without a player in range nothing can be spawned, sleep until the proximity service wakes the spawner up
+		if (world.getTotalWorldTime() > awakeUntil) {
+			settings.onSleepingUpdate();
+			return;
+		}
 		settings.onUpdate();
 	}
 
+	void wakeUntil(long tick) {
+		awakeUntil = tick;
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		unregister();
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		unregister();
+	}
+
+	private void unregister() {
+		if (registered) {
+			SpawnerProximityService.INSTANCE.unregister(this);
+			registered = false;
+		}
+	}
+
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound tag) {
 		super.writeToNBT(tag);
@@ -80,6 +114,8 @@ public class TileAdvancedSpawner extends TileUpdatable implements ITickable, IBl
 		this.settings = settings;
 		this.settings.setWorld(world, pos);
 		this.settings.updateSpawnProperties();
+		//register again with the new player range
+		unregister();
 
 		BlockTools.notifyBlockUpdate(this);
 	}
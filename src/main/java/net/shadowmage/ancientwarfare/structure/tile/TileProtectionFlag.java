@@ -21,6 +21,7 @@ import net.shadowmage.ancientwarfare.core.util.WorldTools;
 import net.shadowmage.ancientwarfare.npc.entity.faction.NpcFaction;
 import net.shadowmage.ancientwarfare.structure.gamedata.StructureEntry;
 import net.shadowmage.ancientwarfare.structure.gamedata.StructureMap;
+import net.shadowmage.ancientwarfare.structure.gamedata.StructureProtectionIndex;
 import net.shadowmage.ancientwarfare.structure.init.AWStructureBlocks;
 import net.shadowmage.ancientwarfare.structure.init.AWStructureSounds;
 import net.shadowmage.ancientwarfare.structure.network.PacketStructureEntry;
@@ -59,6 +60,7 @@ public class TileProtectionFlag extends TileUpdatable {
 	protected void handleUpdateNBT(NBTTagCompound tag) {
 		super.handleUpdateNBT(tag);
 		readNBT(tag);
+		StructureProtectionIndex.INSTANCE.onFlagOwnerChanged(world, pos, owner);
 	}
 
 	private void readNBT(NBTTagCompound tag) {
@@ -73,12 +75,20 @@ public class TileProtectionFlag extends TileUpdatable {
 	@Override
 	public void validate() {
 		super.validate();
-		AWGameData.INSTANCE.getData(world, StructureMap.class).getStructureAt(world, pos).ifPresent(structure -> {
-			structure.setProtectionFlagPos(pos);
+		StructureMap structureMap = AWGameData.INSTANCE.getData(world, StructureMap.class);
+		structureMap.getStructureAt(world, pos).ifPresent(structure -> {
+			structureMap.setProtectionFlagPos(world, structure, pos);
 			if (!world.isRemote) {
 				NetworkHandler.sendToAllPlayers(new PacketStructureEntry(world.provider.getDimension(), structure.getChunkX(), structure.getChunkZ(), structure, false));
 			}
 		});
+		StructureProtectionIndex.INSTANCE.onFlagOwnerChanged(world, pos, owner);
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		StructureProtectionIndex.INSTANCE.onFlagRemoved(world, pos);
 	}
 
 	@Override
@@ -110,6 +120,7 @@ public class TileProtectionFlag extends TileUpdatable {
 			NBTTagCompound tag = stack.getTagCompound();
 			readNBT(tag);
 			name = tag.getString(NAME_TAG);
+			StructureProtectionIndex.INSTANCE.onFlagOwnerChanged(world, pos, owner);
 		}
 	}
 
@@ -152,6 +163,7 @@ public class TileProtectionFlag extends TileUpdatable {
 	private void setOwner(EntityPlayer player, GameProfile playerProfile) {
 		owner = new Owner(player);
 		this.playerProfile = playerProfile;
+		StructureProtectionIndex.INSTANCE.onFlagOwnerChanged(world, pos, owner);
 	}
 
 	private boolean checkStructureConquered(StructureEntry structure, EntityPlayer player) {
@@ -174,6 +186,10 @@ public class TileProtectionFlag extends TileUpdatable {
 		return true;
 	}
 
+	public Owner getOwner() {
+		return owner;
+	}
+
 	public boolean isPlayerOwned() {
 		return owner != Owner.EMPTY;
 	}
@@ -13,6 +13,7 @@ public class TownBoundingArea {
 
 	int wallSize = 3;//should be >0 if walls are desired (must be set by generator prior to generating, not used in validation)
 	int exteriorSize = 0;//exterior buffer size, in chunks.  used to inset the walls by this amount, to allow generation of slums/farms on the exterior of the towns
+	boolean expansionStoppedAtMissingChunk = false;//set by validation when the area could not be expanded further because a neighbor chunk was not generated yet
 
 	public TownBoundingArea() {}
 
@@ -25,6 +26,10 @@ public class TownBoundingArea {
 		this.maxY = maxY;
 	}
 
+	public boolean isExpansionStoppedAtMissingChunk() {
+		return expansionStoppedAtMissingChunk;
+	}
+
 	public int getChunkWidth() {
 		return (chunkMaxX - chunkMinX) + 1;
 	}
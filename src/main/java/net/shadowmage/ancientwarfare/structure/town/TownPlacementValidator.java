@@ -1,8 +1,5 @@
 package net.shadowmage.ancientwarfare.structure.town;
 
-import net.minecraft.block.Block;
-import net.minecraft.block.state.IBlockState;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.shadowmage.ancientwarfare.core.gamedata.AWGameData;
@@ -11,6 +8,7 @@ import net.shadowmage.ancientwarfare.structure.config.AWStructureStatics;
 import net.shadowmage.ancientwarfare.structure.gamedata.StructureEntry;
 import net.shadowmage.ancientwarfare.structure.gamedata.StructureMap;
 import net.shadowmage.ancientwarfare.structure.gamedata.TownMap;
+import net.shadowmage.ancientwarfare.structure.worldgen.SurfaceCache;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -42,7 +40,7 @@ public class TownPlacementValidator {
 		int cx = x >> 4;
 		int cz = z >> 4;
 
-		int height = getTopFilledHeight(world.getChunkFromChunkCoords(cx, cz), x, z);
+		int height = getTopFilledHeight(world, x, z);
 		if (height <= 0) {
 			return null;
 		}
@@ -147,6 +145,10 @@ public class TownPlacementValidator {
 	private static boolean tryExpandXNeg(World world, TownBoundingArea area, Collection<StructureEntry> structureList) {
 		int cx = area.chunkMinX - 1;
 		for (int z = area.chunkMinZ; z <= area.chunkMaxZ; z++) {
+			if (!isChunkAvailable(world, cx, z)) {
+				area.expansionStoppedAtMissingChunk = true;
+				return false;
+			}
 			if (!isAverageHeightWithin(world, cx, z, area.minY, area.maxY) || isStructureInside(structureList, cx, z, area.minY, area.maxY)) {
 				return false;
 			}
@@ -158,6 +160,10 @@ public class TownPlacementValidator {
 	private static boolean tryExpandXPos(World world, TownBoundingArea area, Collection<StructureEntry> structureList) {
 		int cx = area.chunkMaxX + 1;
 		for (int z = area.chunkMinZ; z <= area.chunkMaxZ; z++) {
+			if (!isChunkAvailable(world, cx, z)) {
+				area.expansionStoppedAtMissingChunk = true;
+				return false;
+			}
 			if (!isAverageHeightWithin(world, cx, z, area.minY, area.maxY) || isStructureInside(structureList, cx, z, area.minY, area.maxY)) {
 				return false;
 			}
@@ -169,6 +175,10 @@ public class TownPlacementValidator {
 	private static boolean tryExpandZNeg(World world, TownBoundingArea area, Collection<StructureEntry> structureList) {
 		int cz = area.chunkMinZ - 1;
 		for (int x = area.chunkMinX; x <= area.chunkMaxX; x++) {
+			if (!isChunkAvailable(world, x, cz)) {
+				area.expansionStoppedAtMissingChunk = true;
+				return false;
+			}
 			if (!isAverageHeightWithin(world, x, cz, area.minY, area.maxY) || isStructureInside(structureList, x, cz, area.minY, area.maxY)) {
 				return false;
 			}
@@ -180,6 +190,10 @@ public class TownPlacementValidator {
 	private static boolean tryExpandZPos(World world, TownBoundingArea area, Collection<StructureEntry> structureList) {
 		int cz = area.chunkMaxZ + 1;
 		for (int x = area.chunkMinX; x <= area.chunkMaxX; x++) {
+			if (!isChunkAvailable(world, x, cz)) {
+				area.expansionStoppedAtMissingChunk = true;
+				return false;
+			}
 			if (!isAverageHeightWithin(world, x, cz, area.minY, area.maxY) || isStructureInside(structureList, x, cz, area.minY, area.maxY)) {
 				return false;
 			}
@@ -188,13 +202,21 @@ public class TownPlacementValidator {
 		return true;
 	}
 
+	/*
+	 * only chunks that are already loaded and populated are inspected, getting any other chunk would load or generate
+	 * it and cascade world generation into its neighbors
+	 */
+	static boolean isChunkAvailable(World world, int cx, int cz) {
+		Chunk chunk = world.getChunkProvider().getLoadedChunk(cx, cz);
+		return chunk != null && chunk.isTerrainPopulated();
+	}
+
 	private static boolean isAverageHeightWithin(World world, int cx, int cz, int min, int max) {
-		Chunk chunk = world.getChunkFromChunkCoords(cx, cz);
 		int val;
 		int total = 0;
 		for (int x = (cx << 4); x < ((cx << 4) + 16); x++) {
 			for (int z = (cz << 4); z < ((cz << 4) + 16); z++) {
-				val = getTopFilledHeight(chunk, x, z);
+				val = getTopFilledHeight(world, x, z);
 				if (val < 0) {
 					return false;
 				}//exit out if a non-proper block-type is detected
@@ -211,27 +233,11 @@ public class TownPlacementValidator {
 	 *
 	 * @return top solid block height, or -1 for invalid top block or no top block found (void, bedrock...)
 	 */
-	private static int getTopFilledHeight(Chunk chunk, int x, int z) {
-		int maxY = chunk.getTopFilledSegment() + 15;
-		Block block;
-		for (int y = maxY; y > 0; y--) {
-			IBlockState state = chunk.getBlockState(new BlockPos(x, y, z));
-			block = state.getBlock();
-			if (AWStructureStatics.isSkippable(state)) {
-				continue;
-			}
-			if (state.getMaterial().isLiquid()) {
-				if (y >= 56) {
-					continue;
-				}// >=56 is fillable through underfill/border settings.  below that is too deep for a proper gradient on the border.
-				return -1;//return invalid Y if liquid block is too low
-			}
-			if (!AWStructureStatics.isValidTargetBlock(state)) {
-				AncientWarfareStructure.LOG.debug("rejecting town chunk for non-target block: " + block + " :: " + chunk.x + ":" + chunk.z);
-				return -1;
-			}
-			return y;//if not skippable and is valid target block, return that y-level
+	private static int getTopFilledHeight(World world, int x, int z) {
+		int y = SurfaceCache.INSTANCE.getTownSurfaceY(world, x, z);
+		if (y < 0) {
+			AncientWarfareStructure.LOG.debug("rejecting town chunk for non-target block or deep liquid at: " + x + ":" + z);
 		}
-		return -1;
+		return y;
 	}
 }
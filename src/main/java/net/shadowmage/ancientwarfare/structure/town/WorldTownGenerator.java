@@ -7,6 +7,8 @@ import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraftforge.fml.common.IWorldGenerator;
 import net.shadowmage.ancientwarfare.core.gamedata.AWGameData;
+import net.shadowmage.ancientwarfare.core.metrics.AWMetrics;
+import net.shadowmage.ancientwarfare.core.metrics.MetricGroup;
 import net.shadowmage.ancientwarfare.structure.config.AWStructureStatics;
 import net.shadowmage.ancientwarfare.structure.gamedata.StructureEntry;
 import net.shadowmage.ancientwarfare.structure.gamedata.StructureMap;
@@ -21,6 +23,7 @@ import java.util.Random;
 public class WorldTownGenerator implements IWorldGenerator {
 
 	public static final WorldTownGenerator INSTANCE = new WorldTownGenerator();
+	private static final MetricGroup METRICS = AWMetrics.group("worldgen");
 
 	private WorldTownGenerator() {
 	}
@@ -38,20 +41,36 @@ public class WorldTownGenerator implements IWorldGenerator {
 		}
 	}
 
-	public void attemptGeneration(World world, int blockX, int blockZ) {
+	/*
+	 * Attempts town generation around the given position only inspecting chunks that are already generated.
+	 * If canDefer is set and the town area could have grown into chunks that don't exist yet the attempt is not decided
+	 * and true is returned so that the caller can retry once more of the neighborhood has been generated.
+	 *
+	 * @return true if the attempt was deferred
+	 */
+	public boolean attemptGeneration(World world, int blockX, int blockZ, boolean canDefer) {
+		if (!TownPlacementValidator.isChunkAvailable(world, blockX >> 4, blockZ >> 4)) {
+			return canDefer;
+		}
+
 		List<TownTemplate> templates = TownTemplateManager.INSTANCE.getTemplatesValidAtPosition(world, blockX, blockZ);
 		if (templates.isEmpty()) {
-			return;
+			return false;
 		}
 
+		long start = AWMetrics.start();
 		TownBoundingArea area = TownPlacementValidator.findGenerationPosition(world, blockX, blockZ);
+		METRICS.recordSince("town_placement", start);
 		if (area == null) {
-			return;
+			return false;
+		}
+		if (canDefer && area.isExpansionStoppedAtMissingChunk()) {
+			return true;
 		}
 
 		Optional<TownTemplate> t = TownTemplateManager.INSTANCE.selectTemplateFittingArea(world, area, templates);
 		if (!t.isPresent()) {
-			return;
+			return false;
 		}
 		TownTemplate template = t.get();
 		if (area.getChunkWidth() - 1 > template.getMaxSize())//shrink width down to town max size
@@ -62,8 +81,10 @@ public class WorldTownGenerator implements IWorldGenerator {
 		{
 			area.chunkMaxZ = area.chunkMinZ + template.getMaxSize();
 		}
+		start = AWMetrics.start();
 		generate(world, area, template);
-
+		METRICS.recordSince("town_generation", start);
+		return false;
 	}
 
 	public void generate(World world, TownBoundingArea area, TownTemplate template) {
@@ -0,0 +1,300 @@
+package net.shadowmage.ancientwarfare.structure.worldgen;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.shadowmage.ancientwarfare.structure.config.AWStructureStatics;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Per world cache of chunk surface summaries used by structure and town placement validation.
+ * The summary of a chunk is computed in a single top down pass over its block storage sections and holds for every column
+ * the top non skippable Y, the top non skippable non water Y (and the block states found there) and the town surface Y.
+ *
+ * A block change only marks its column stale, the column is rescanned the next time it is read, so structure leveling and
+ * filling that read and change the same chunk column by column don't rescan the whole chunk after every block set.
+ * Entries are dropped when the chunk unloads.
+ *
+ * Block changes are only reported to world listeners for populated chunks (see World.markAndNotifyBlock), so chunks that
+ * are still generating, or were generated but never ticked, are not cached and only the column asked for is scanned.
+ * Client worlds are never cached either.
+ */
+public class SurfaceCache implements IWorldEventListener {
+	public static final SurfaceCache INSTANCE = new SurfaceCache();
+
+	private static final int MAX_CACHED_CHUNKS = 512;
+	//liquids at or above this level are fillable through underfill/border settings, below that it is too deep for a proper gradient on the border
+	private static final int MIN_TOWN_LIQUID_Y = 56;
+
+	private final Map<Integer, Map<Long, ChunkSurface>> surfacesByDimension = new HashMap<>();
+
+	private SurfaceCache() {}
+
+	/*
+	 * Top Y that has a non skippable block, optionally also skipping water, or -1 if there is none
+	 */
+	public int getTopY(World world, int x, int z, boolean skipWater) {
+		ChunkSurface surface = getSurface(world, x, z);
+		return skipWater ? surface.topNonWaterY[index(x, z)] : surface.topSolidY[index(x, z)];
+	}
+
+	/*
+	 * Block state at getTopY, air if there is no top block
+	 */
+	public IBlockState getTopState(World world, int x, int z, boolean skipWater) {
+		ChunkSurface surface = getSurface(world, x, z);
+		return skipWater ? surface.topNonWaterState[index(x, z)] : surface.topSolidState[index(x, z)];
+	}
+
+	/*
+	 * Top Y with a non skippable block that is a valid town target block, skipping liquids that are shallow enough
+	 * to be filled by the town borders. Returns -1 for an invalid top block or no top block found.
+	 */
+	public int getTownSurfaceY(World world, int x, int z) {
+		return getSurface(world, x, z).townY[index(x, z)];
+	}
+
+	private static int index(int x, int z) {
+		return (x & 15) << 4 | (z & 15);
+	}
+
+	/*
+	 * Surface of the chunk containing the column with the column up to date
+	 */
+	private ChunkSurface getSurface(World world, int x, int z) {
+		int chunkX = x >> 4;
+		int chunkZ = z >> 4;
+		Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+		if (world.isRemote || !chunk.isPopulated()) {
+			return ChunkSurface.ofColumn(world, chunk, x & 15, z & 15);
+		}
+		Map<Long, ChunkSurface> surfaces = surfacesByDimension.computeIfAbsent(world.provider.getDimension(), d -> createSurfaceMap());
+		long key = ChunkPos.asLong(chunkX, chunkZ);
+		ChunkSurface surface = surfaces.get(key);
+		if (surface == null) {
+			surface = new ChunkSurface(world, chunk);
+			surfaces.put(key, surface);
+		} else if (surface.staleColumns[index(x, z)]) {
+			surface.rescanColumn(world, chunk, x & 15, z & 15);
+		}
+		return surface;
+	}
+
+	private static Map<Long, ChunkSurface> createSurfaceMap() {
+		return new LinkedHashMap<Long, ChunkSurface>(MAX_CACHED_CHUNKS, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, ChunkSurface> eldest) {
+				return size() > MAX_CACHED_CHUNKS;
+			}
+		};
+	}
+
+	private void invalidate(World world, int chunkX, int chunkZ) {
+		Map<Long, ChunkSurface> surfaces = surfacesByDimension.get(world.provider.getDimension());
+		if (surfaces != null) {
+			surfaces.remove(ChunkPos.asLong(chunkX, chunkZ));
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load evt) {
+		if (!evt.getWorld().isRemote) {
+			surfacesByDimension.remove(evt.getWorld().provider.getDimension());
+			evt.getWorld().addEventListener(this);
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		if (!evt.getWorld().isRemote) {
+			surfacesByDimension.remove(evt.getWorld().provider.getDimension());
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload evt) {
+		if (!evt.getWorld().isRemote) {
+			invalidate(evt.getWorld(), evt.getChunk().x, evt.getChunk().z);
+		}
+	}
+
+	@Override
+	public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+		if (oldState == newState) {
+			return;
+		}
+		Map<Long, ChunkSurface> surfaces = surfacesByDimension.get(worldIn.provider.getDimension());
+		ChunkSurface surface = surfaces != null ? surfaces.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)) : null;
+		if (surface != null) {
+			surface.staleColumns[index(pos.getX(), pos.getZ())] = true;
+		}
+	}
+
+	@Override
+	public void notifyLightSet(BlockPos pos) {
+		//noop
+	}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+		//noop
+	}
+
+	@Override
+	public void playSoundToAllNearExcept(
+			@Nullable EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x, double y, double z, float volume, float pitch) {
+		//noop
+	}
+
+	@Override
+	public void playRecord(SoundEvent soundIn, BlockPos pos) {
+		//noop
+	}
+
+	@Override
+	public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+		//noop
+	}
+
+	@Override
+	public void spawnParticle(int id, boolean ignoreRange, boolean p_190570_3_, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+		//noop
+	}
+
+	@Override
+	public void onEntityAdded(Entity entityIn) {
+		//noop
+	}
+
+	@Override
+	public void onEntityRemoved(Entity entityIn) {
+		//noop
+	}
+
+	@Override
+	public void broadcastSound(int soundID, BlockPos pos, int data) {
+		//noop
+	}
+
+	@Override
+	public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) {
+		//noop
+	}
+
+	@Override
+	public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {
+		//noop
+	}
+
+	private static class ChunkSurface {
+		private final int[] topSolidY = new int[256];
+		private final int[] topNonWaterY = new int[256];
+		private final int[] townY = new int[256];
+		private final IBlockState[] topSolidState = new IBlockState[256];
+		private final IBlockState[] topNonWaterState = new IBlockState[256];
+		private final boolean[] staleColumns = new boolean[256];
+
+		private ChunkSurface() {
+			Arrays.fill(topSolidY, -1);
+			Arrays.fill(topNonWaterY, -1);
+			Arrays.fill(townY, -1);
+			Arrays.fill(topSolidState, Blocks.AIR.getDefaultState());
+			Arrays.fill(topNonWaterState, Blocks.AIR.getDefaultState());
+		}
+
+		private ChunkSurface(World world, Chunk chunk) {
+			this();
+			ExtendedBlockStorage[] sections = chunk.getBlockStorageArray();
+			int actualHeight = world.getActualHeight();
+			for (int x = 0; x < 16; x++) {
+				for (int z = 0; z < 16; z++) {
+					scanColumn(sections, actualHeight, x, z);
+				}
+			}
+		}
+
+		/*
+		 * Surface with only the one column scanned, for chunks that aren't cached
+		 */
+		private static ChunkSurface ofColumn(World world, Chunk chunk, int x, int z) {
+			ChunkSurface surface = new ChunkSurface();
+			surface.scanColumn(chunk.getBlockStorageArray(), world.getActualHeight(), x, z);
+			return surface;
+		}
+
+		private void rescanColumn(World world, Chunk chunk, int x, int z) {
+			int index = index(x, z);
+			topSolidY[index] = -1;
+			topNonWaterY[index] = -1;
+			townY[index] = -1;
+			topSolidState[index] = Blocks.AIR.getDefaultState();
+			topNonWaterState[index] = Blocks.AIR.getDefaultState();
+			staleColumns[index] = false;
+			scanColumn(chunk.getBlockStorageArray(), world.getActualHeight(), x, z);
+		}
+
+		private void scanColumn(ExtendedBlockStorage[] sections, int actualHeight, int x, int z) {
+			int index = index(x, z);
+			boolean solidFound = false;
+			boolean nonWaterFound = false;
+			boolean townFound = false;
+			for (int sectionY = sections.length - 1; sectionY >= 0; sectionY--) {
+				ExtendedBlockStorage section = sections[sectionY];
+				if (section == Chunk.NULL_BLOCK_STORAGE || section.isEmpty()) {
+					continue;
+				}
+				for (int y = (sectionY << 4) + 15; y >= sectionY << 4 && y > 0; y--) {
+					IBlockState state = section.get(x, y & 15, z);
+					if (AWStructureStatics.isSkippable(state)) {
+						continue;
+					}
+					if (!townFound) {
+						townFound = updateTownY(index, y, state);
+					}
+					if (y <= actualHeight) {
+						if (!solidFound) {
+							solidFound = true;
+							topSolidY[index] = y;
+							topSolidState[index] = state;
+						}
+						Block block = state.getBlock();
+						if (!nonWaterFound && block != Blocks.WATER && block != Blocks.FLOWING_WATER) {
+							nonWaterFound = true;
+							topNonWaterY[index] = y;
+							topNonWaterState[index] = state;
+						}
+					}
+					if (solidFound && nonWaterFound && townFound) {
+						return;
+					}
+				}
+			}
+		}
+
+		private boolean updateTownY(int index, int y, IBlockState state) {
+			if (state.getMaterial().isLiquid()) {
+				return y < MIN_TOWN_LIQUID_Y;
+			}
+			townY[index] = AWStructureStatics.isValidTargetBlock(state) ? y : -1;
+			return true;
+		}
+	}
+}
@@ -6,11 +6,13 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
 import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
 import net.shadowmage.ancientwarfare.structure.AncientWarfareStructure;
+import net.shadowmage.ancientwarfare.structure.config.AWStructureStatics;
 import net.shadowmage.ancientwarfare.structure.template.build.StructureBuilder;
 import net.shadowmage.ancientwarfare.structure.town.WorldTownGenerator;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 public final class WorldGenTickHandler {
@@ -20,8 +22,10 @@ public final class WorldGenTickHandler {
 	private final List<ChunkGenerationTicket> newTownGenTickets;
 	private final List<ChunkGenerationTicket> chunksToGen;
 	private final List<ChunkGenerationTicket> townChunksToGen;
+	private final List<ChunkGenerationTicket> deferredTownTickets;
 	private final List<StructureTicket> newStructureGenTickets;
 	private final List<StructureTicket> structuresToGen;
+	private long tickCount = 0;
 
 	private WorldGenTickHandler() {
 		newWorldGenTickets = new ArrayList<>();
@@ -29,6 +33,7 @@ public final class WorldGenTickHandler {
 		newStructureGenTickets = new ArrayList<>();
 		chunksToGen = new ArrayList<>();
 		townChunksToGen = new ArrayList<>();
+		deferredTownTickets = new ArrayList<>();
 		structuresToGen = new ArrayList<>();
 	}
 
@@ -51,6 +56,7 @@ public final class WorldGenTickHandler {
 	@SubscribeEvent
 	public void serverTick(ServerTickEvent evt) {
 		if (evt.phase == Phase.END) {
+			tickCount++;
 			genChunks();
 			genStructures();
 			genTowns();
@@ -87,8 +93,18 @@ public final class WorldGenTickHandler {
 		if (!townChunksToGen.isEmpty()) {
 			ChunkGenerationTicket tk = townChunksToGen.remove(0);
 			World world = tk.getWorld();
-			if (world != null) {
-				WorldTownGenerator.INSTANCE.attemptGeneration(world, tk.chunkX * 16, tk.chunkZ * 16);
+			if (world != null && WorldTownGenerator.INSTANCE.attemptGeneration(world, tk.chunkX * 16, tk.chunkZ * 16, tk.deferrals < AWStructureStatics.townGenerationMaxDeferrals)) {
+				deferredTownTickets.add(new ChunkGenerationTicket(tk, tickCount + AWStructureStatics.townGenerationDeferralTicks));
+			}
+		}
+		if (!deferredTownTickets.isEmpty()) {
+			Iterator<ChunkGenerationTicket> it = deferredTownTickets.iterator();
+			while (it.hasNext()) {
+				ChunkGenerationTicket tk = it.next();
+				if (tk.retryAtTick <= tickCount) {
+					it.remove();
+					newTownGenTickets.add(tk);
+				}
 			}
 		}
 		if (!newTownGenTickets.isEmpty()) {
@@ -111,11 +127,23 @@ public final class WorldGenTickHandler {
 		private final int world;
 		private final int chunkX;
 		private final int chunkZ;
+		private final int deferrals;
+		private final long retryAtTick;
 
 		private ChunkGenerationTicket(World world, int x, int z) {
 			this.world = world.provider.getDimension();
 			this.chunkX = x;
 			this.chunkZ = z;
+			this.deferrals = 0;
+			this.retryAtTick = 0;
+		}
+
+		private ChunkGenerationTicket(ChunkGenerationTicket deferred, long retryAtTick) {
+			this.world = deferred.world;
+			this.chunkX = deferred.chunkX;
+			this.chunkZ = deferred.chunkZ;
+			this.deferrals = deferred.deferrals + 1;
+			this.retryAtTick = retryAtTick;
 		}
 
 		@Nullable
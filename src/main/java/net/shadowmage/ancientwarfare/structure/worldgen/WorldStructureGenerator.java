@@ -11,6 +11,8 @@ import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraftforge.fml.common.IWorldGenerator;
 import net.shadowmage.ancientwarfare.core.gamedata.AWGameData;
+import net.shadowmage.ancientwarfare.core.metrics.AWMetrics;
+import net.shadowmage.ancientwarfare.core.metrics.MetricGroup;
 import net.shadowmage.ancientwarfare.structure.AncientWarfareStructure;
 import net.shadowmage.ancientwarfare.structure.config.AWStructureStatics;
 import net.shadowmage.ancientwarfare.structure.gamedata.StructureEntry;
@@ -30,6 +32,7 @@ public class WorldStructureGenerator implements IWorldGenerator {
 	public static final WorldStructureGenerator INSTANCE = new WorldStructureGenerator();
 
 	private static final int MAX_DISTANCE_WITHIN_CLUSTER = 150;
+	private static final MetricGroup METRICS = AWMetrics.group("worldgen");
 
 	private final Random rng;
 
@@ -64,7 +67,9 @@ public class WorldStructureGenerator implements IWorldGenerator {
 
 		EnumFacing face = EnumFacing.HORIZONTALS[rng.nextInt(4)];
 		world.profiler.startSection("AWTemplateSelection");
+		long start = AWMetrics.start();
 		StructureTemplate template = WorldGenStructureManager.INSTANCE.selectTemplateForGeneration(world, rng, x, y, z, face);
+		METRICS.recordSince("template_selection", start);
 		world.profiler.endSection();
 		AncientWarfareStructure.LOG.debug("Template selection took: " + (System.currentTimeMillis() - t1) + " ms.");
 		if (template == null) {
@@ -75,20 +80,28 @@ public class WorldStructureGenerator implements IWorldGenerator {
 			return;
 		}
 		world.profiler.startSection("AWTemplateGeneration");
+		start = AWMetrics.start();
 		if (attemptStructureGenerationAt(world, new BlockPos(x, y, z), face, template, map)) {
+			METRICS.recordSince("structure_generation", start);
 			AncientWarfareStructure.LOG.info(String.format("Generated structure: %s at %s, %s, %s, time: %sms", template.name, x, y, z, (System.currentTimeMillis() - t1)));
+		} else {
+			METRICS.recordSince("structure_rejected", start);
 		}
 		world.profiler.endSection();
 	}
 
 	public static int getTargetY(World world, int x, int z, boolean skipWater) {
-		return getTargetY(world, x, z, skipWater, world.getActualHeight());
+		return SurfaceCache.INSTANCE.getTopY(world, x, z, skipWater);
 	}
 
 	public static int getTargetY(World world, int x, int z, boolean skipWater, int startAtY) {
+		if (startAtY >= world.getActualHeight()) {
+			return getTargetY(world, x, z, skipWater);
+		}
 		Block block;
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 		for (int y = startAtY; y > 0; y--) {
-			IBlockState state = world.getBlockState(new BlockPos(x, y, z));
+			IBlockState state = world.getBlockState(pos.setPos(x, y, z));
 			block = state.getBlock();
 			if (AWStructureStatics.isSkippable(state)) {
 				continue;
@@ -25,6 +25,7 @@ import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
 import net.shadowmage.ancientwarfare.core.util.BlockTools;
 import net.shadowmage.ancientwarfare.vehicle.entity.VehicleBase;
 import net.shadowmage.ancientwarfare.vehicle.entity.types.VehicleTypeBatteringRam;
@@ -105,7 +106,7 @@ public class BatteringRamVarHelper extends VehicleFiringVarsHelper {
 				continue;
 			}
 			bb = new AxisAlignedBB(pos, pos.add(1, 1, 1));
-			hitEntities = vehicle.world.getEntitiesWithinAABBExcludingEntity(vehicle, bb);
+			hitEntities = LargeEntityIndex.getEntitiesWithinAABBExcludingEntity(vehicle.world, vehicle, bb);
 			if (hitEntities != null) {
 				for (Entity ent : hitEntities) {
 					ent.attackEntityFrom(DamageType.batteringDamage, 5 + vehicle.vehicleMaterialLevel);
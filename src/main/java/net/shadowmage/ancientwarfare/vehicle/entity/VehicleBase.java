@@ -31,6 +31,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.common.registry.IEntityAdditionalSpawnData;
 import net.minecraftforge.items.CapabilityItemHandler;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
 import net.shadowmage.ancientwarfare.core.owner.IOwnable;
 import net.shadowmage.ancientwarfare.core.owner.Owner;
 import net.shadowmage.ancientwarfare.core.util.InventoryTools;
@@ -542,6 +543,7 @@ public class VehicleBase extends Entity implements IEntityAdditionalSpawnData, I
 			InventoryTools.dropItemsInWorld(world, inventory.storageInventory, posX, posY, posZ);
 		}
 		super.setDead();
+		LargeEntityIndex.INSTANCE.remove(this);
 	}
 
 	@Nullable
@@ -561,6 +563,9 @@ public class VehicleBase extends Entity implements IEntityAdditionalSpawnData, I
 		this.updateTurretPitch();
 		this.updateTurretRotation();
 		this.moveHelper.onUpdate();
+		if (width / 2 > World.MAX_ENTITY_RADIUS || height > World.MAX_ENTITY_RADIUS) {
+			LargeEntityIndex.INSTANCE.update(this, getEntityBoundingBox());
+		}
 		this.firingHelper.onTick();
 		this.firingVarsHelper.onTick();
 		if (this.hitAnimationTicks > 0) {
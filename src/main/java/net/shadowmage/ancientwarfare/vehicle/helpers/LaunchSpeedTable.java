@@ -0,0 +1,82 @@
+package net.shadowmage.ancientwarfare.vehicle.helpers;
+
+import net.minecraft.util.math.MathHelper;
+import net.shadowmage.ancientwarfare.core.util.Trig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Lazily filled lookup table of the launch speeds needed to hit a target at a fixed launch angle.
+ * The speed found by simulating the missile flight only depends on the launch angle, the horizontal and vertical distance
+ * to the target and whether the missile is a rocket, so the simulation results are cached on a grid of those values
+ * and lookups interpolate between the surrounding grid points.
+ *
+ * Near the maximum range some of the surrounding grid points can't be hit or the search failed for them, interpolating
+ * these would give a wrong speed so such lookups run the simulation directly instead.
+ */
+public class LaunchSpeedTable {
+	private static final int TRAJECTORY_ITERATIONS = 20;
+	private static final float DISTANCE_STEP = 2.f;
+	private static final float ANGLE_STEP = 0.25f;
+	private static final int MAX_CACHED_POINTS = 65536;
+
+	private static final Map<Long, Float> speeds = new LinkedHashMap<Long, Float>(1024, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Float> eldest) {
+			return size() > MAX_CACHED_POINTS;
+		}
+	};
+
+	private LaunchSpeedTable() {}
+
+	/*
+	 * Same as Trig.iterativeSpeedFinder, interpolated from the cached simulation results
+	 *
+	 * @param x        raw X distance (x2 - x1) from the launch point
+	 * @param y        vertical distance (y2 - y1) from the launch point
+	 * @param z        raw Z distance (z2 - z1) from the launch point
+	 * @param angle    launch angle in degrees
+	 * @param maxSpeed highest speed the launcher can reach, grid points needing more than that are not interpolated
+	 */
+	public static float getLaunchSpeed(float x, float y, float z, float angle, boolean rocket, float maxSpeed) {
+		float distance = MathHelper.sqrt(x * x + z * z) / DISTANCE_STEP;
+		float height = y / DISTANCE_STEP;
+		float angleIndex = Trig.wrapTo360(angle) / ANGLE_STEP;
+		int d0 = MathHelper.floor(distance);
+		int h0 = MathHelper.floor(height);
+		int a0 = MathHelper.floor(angleIndex);
+		float fd = distance - d0;
+		float fh = height - h0;
+		float fa = angleIndex - a0;
+		//corners ordered by angle, then height, then distance
+		float[] corners = new float[8];
+		synchronized (speeds) {
+			for (int i = 0; i < 8; i++) {
+				float speed = getGridSpeed(a0 + (i >> 2), d0 + (i & 1), h0 + (i >> 1 & 1), rocket);
+				if (!(speed > 0 && speed <= maxSpeed)) {
+					return Trig.iterativeSpeedFinder(x, y, z, angle, TRAJECTORY_ITERATIONS, rocket);
+				}
+				corners[i] = speed;
+			}
+		}
+		float angleLow = lerp(lerp(corners[0], corners[1], fd), lerp(corners[2], corners[3], fd), fh);
+		float angleHigh = lerp(lerp(corners[4], corners[5], fd), lerp(corners[6], corners[7], fd), fh);
+		return lerp(angleLow, angleHigh, fa);
+	}
+
+	private static float getGridSpeed(int angleIndex, int distanceIndex, int heightIndex, boolean rocket) {
+		long key = (long) angleIndex << 33 | (rocket ? 1L << 32 : 0) | (distanceIndex & 0xffffL) << 16 | heightIndex & 0xffffL;
+		Float speed = speeds.get(key);
+		if (speed == null) {
+			speed = Trig.iterativeSpeedFinder(distanceIndex * DISTANCE_STEP, heightIndex * DISTANCE_STEP, 0, angleIndex * ANGLE_STEP, TRAJECTORY_ITERATIONS,
+					rocket);
+			speeds.put(key, speed);
+		}
+		return speed;
+	}
+
+	private static float lerp(float from, float to, float fraction) {
+		return from + (to - from) * fraction;
+	}
+}
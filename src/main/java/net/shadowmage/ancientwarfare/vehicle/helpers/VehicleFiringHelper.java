@@ -49,8 +49,6 @@ import java.util.Random;
  */
 public class VehicleFiringHelper implements INBTSerializable<NBTTagCompound> {
 
-	private static final int TRAJECTORY_ITERATIONS_CLIENT = 20;
-
 	protected static Random rng = new Random();
 	/**
 	 * these values are updated when the client chooses an aim point, used by overlay rendering gui
@@ -427,8 +425,7 @@ public class VehicleFiringHelper implements INBTSerializable<NBTTagCompound> {
 				}
 			}
 		} else if (vehicle.canAimPower()) {
-			float power = Trig.iterativeSpeedFinder(tx, ty, tz, vehicle.localTurretPitch + vehicle.rotationPitch, TRAJECTORY_ITERATIONS_CLIENT,
-					(vehicle.ammoHelper.getCurrentAmmoType() != null && vehicle.ammoHelper.getCurrentAmmoType().isRocket()));
+			float power = getPowerFor(tx, ty, tz);
 			if (!MathUtils.epsilonEquals(clientLaunchSpeed, power) && power < getAdjustedMaxMissileVelocity()) {
 				this.clientLaunchSpeed = power;
 				updated = true;
@@ -501,8 +498,7 @@ public class VehicleFiringHelper implements INBTSerializable<NBTTagCompound> {
 				}
 			}
 		} else if (vehicle.canAimPower()) {
-			float power = Trig.iterativeSpeedFinder(tx, ty, tz, vehicle.localTurretPitch + vehicle.rotationPitch, TRAJECTORY_ITERATIONS_CLIENT,
-					(vehicle.ammoHelper.getCurrentAmmoType() != null && vehicle.ammoHelper.getCurrentAmmoType().isRocket()));
+			float power = getPowerFor(tx, ty, tz);
 			if (!MathUtils.epsilonEquals(vehicle.localLaunchPower, power) && power < getAdjustedMaxMissileVelocity()) {
 				this.vehicle.localLaunchPower = power;
 				updated = true;
@@ -611,8 +607,12 @@ public class VehicleFiringHelper implements INBTSerializable<NBTTagCompound> {
 			return true;
 		}
 
-		float powerMin = getPowerFor((float) target.getBoundigBox().minX, (float) target.getBoundigBox().minY, (float) target.getBoundigBox().minZ);
-		float powerMax = getPowerFor((float) target.getBoundigBox().maxX, (float) target.getBoundigBox().maxY, (float) target.getBoundigBox().maxZ);
+		Vec3d offset = vehicle.getMissileOffset();
+		float x = (float) (vehicle.posX + offset.x);
+		float y = (float) (vehicle.posY + offset.y);
+		float z = (float) (vehicle.posZ + offset.z);
+		float powerMin = getPowerFor((float) target.getBoundigBox().minX - x, (float) target.getBoundigBox().minY - y, (float) target.getBoundigBox().minZ - z);
+		float powerMax = getPowerFor((float) target.getBoundigBox().maxX - x, (float) target.getBoundigBox().maxY - y, (float) target.getBoundigBox().maxZ - z);
 
 		if (powerMin > powerMax) {
 			float temp = powerMin;
@@ -624,8 +624,8 @@ public class VehicleFiringHelper implements INBTSerializable<NBTTagCompound> {
 	}
 
 	private float getPowerFor(float minX, float minY, float minZ) {
-		return Trig.iterativeSpeedFinder(minX, minY, minZ, vehicle.localTurretPitch + vehicle.rotationPitch,
-						TRAJECTORY_ITERATIONS_CLIENT, (vehicle.ammoHelper.getCurrentAmmoType() != null && vehicle.ammoHelper.getCurrentAmmoType().isRocket()));
+		return LaunchSpeedTable.getLaunchSpeed(minX, minY, minZ, vehicle.localTurretPitch + vehicle.rotationPitch,
+				(vehicle.ammoHelper.getCurrentAmmoType() != null && vehicle.ammoHelper.getCurrentAmmoType().isRocket()), getAdjustedMaxMissileVelocity());
 	}
 
 	public float getAimYaw(ITarget target) {
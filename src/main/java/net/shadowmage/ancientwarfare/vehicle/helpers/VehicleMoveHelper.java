@@ -6,12 +6,14 @@ import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.MoverType;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.util.INBTSerializable;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
@@ -20,14 +22,23 @@ import net.shadowmage.ancientwarfare.core.util.Trig;
 import net.shadowmage.ancientwarfare.vehicle.config.AWVehicleStatics;
 import net.shadowmage.ancientwarfare.vehicle.entity.VehicleBase;
 import net.shadowmage.ancientwarfare.vehicle.entity.VehicleMovementType;
-import net.shadowmage.ancientwarfare.vehicle.network.PacketVehicleBase;
 import net.shadowmage.ancientwarfare.vehicle.network.PacketVehicleMove;
 
+import javax.annotation.Nullable;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class VehicleMoveHelper implements INBTSerializable<NBTTagCompound> {
 
 	private static final int VEHICLE_MOVE_UPDATE_FREQUENCY = 3;
+	//every tracking player gets a full state update at least this often, in between only deltas are sent
+	private static final int FULL_UPDATE_INTERVAL = 60;
+	//players within the near range get updates every tick, within the mid range every other tick and every 4th tick beyond that
+	private static final double NEAR_SYNC_RANGE_SQ = 32 * 32;
+	private static final double MID_SYNC_RANGE_SQ = 64 * 64;
+	private static final int MAX_EXTRAPOLATION_TICKS = 8;
 
 	byte forwardInput;
 	byte turnInput;
@@ -44,6 +55,22 @@ public class VehicleMoveHelper implements INBTSerializable<NBTTagCompound> {
 	int rotationTicks = 0;
 	int pitchTicks = 0;
 
+	//client side, last state received from server that deltas are applied to
+	private boolean hasSyncedState = false;
+	private double syncX;
+	private double syncY;
+	private double syncZ;
+	private float syncYaw;
+	private float syncPitch;
+	private int ticksSinceMoveUpdate = 0;
+	private double extrapolateX;
+	private double extrapolateY;
+	private double extrapolateZ;
+	private int extrapolationTicks = 0;
+
+	//server side, state last sent to each of the tracking players
+	private final Map<EntityPlayer, TrackerState> trackerStates = new HashMap<>();
+
 	public float forwardMotion = 0.f;
 	protected float verticalMotion = 0.f;
 	protected float turnMotion = 0.f;
@@ -80,10 +107,37 @@ public class VehicleMoveHelper implements INBTSerializable<NBTTagCompound> {
 		this.turnInput = in;
 	}
 
+	public void updateMoveDelta(short deltaX, short deltaY, short deltaZ, boolean air, float motion, short deltaYaw, short deltaPitch) {
+		if (!hasSyncedState) {
+			return; //nothing to apply the delta to, the next full update will set the state
+		}
+		updateMoveData(syncX + deltaX / PacketVehicleMove.POSITION_SCALE, syncY + deltaY / PacketVehicleMove.POSITION_SCALE,
+				syncZ + deltaZ / PacketVehicleMove.POSITION_SCALE, air, motion, syncYaw + deltaYaw / PacketVehicleMove.ROTATION_SCALE,
+				syncPitch + deltaPitch / PacketVehicleMove.ROTATION_SCALE);
+	}
+
 	public void updateMoveData(double posX, double posY, double posZ, boolean air, float motion, float yaw, float pitch) {
 		this.pitchTicks = VEHICLE_MOVE_UPDATE_FREQUENCY + 1;
 		this.rotationTicks = VEHICLE_MOVE_UPDATE_FREQUENCY + 1;
-		this.moveTicks = VEHICLE_MOVE_UPDATE_FREQUENCY + 1;
+		this.moveTicks = 1;
+
+		//vehicles synced at a lower rate keep moving at the velocity between the last two updates until the next one arrives
+		int elapsed = ticksSinceMoveUpdate;
+		if (hasSyncedState && elapsed > 1 && elapsed <= MAX_EXTRAPOLATION_TICKS) {
+			this.extrapolateX = (posX - syncX) / elapsed;
+			this.extrapolateY = (posY - syncY) / elapsed;
+			this.extrapolateZ = (posZ - syncZ) / elapsed;
+			this.extrapolationTicks = elapsed;
+		} else {
+			this.extrapolationTicks = 0;
+		}
+		this.ticksSinceMoveUpdate = 0;
+		this.hasSyncedState = true;
+		this.syncX = posX;
+		this.syncY = posY;
+		this.syncZ = posZ;
+		this.syncYaw = yaw;
+		this.syncPitch = pitch;
 
 		this.destPitch = pitch;
 		this.destYaw = yaw;
@@ -123,6 +177,7 @@ public class VehicleMoveHelper implements INBTSerializable<NBTTagCompound> {
 		vehicle.motionZ = 0;
 		rotationSpeed = 0;
 		pitchSpeed = 0;
+		ticksSinceMoveUpdate++;
 		if (this.rotationTicks > 0) {
 			rotationSpeed = (this.destYaw - vehicle.rotationYaw) / rotationTicks;
 			vehicle.rotationYaw += this.rotationSpeed;
@@ -133,6 +188,13 @@ public class VehicleMoveHelper implements INBTSerializable<NBTTagCompound> {
 			vehicle.rotationPitch += this.pitchSpeed;
 			this.pitchTicks--;
 		}
+		if (moveTicks <= 0 && extrapolationTicks > 0) {
+			destX += extrapolateX;
+			destY += extrapolateY;
+			destZ += extrapolateZ;
+			moveTicks = 1;
+			extrapolationTicks--;
+		}
 		if (moveTicks > 0) {
 			vehicle.motionX = destX - vehicle.posX;
 			vehicle.motionY = destY - vehicle.posY;
@@ -187,14 +249,21 @@ public class VehicleMoveHelper implements INBTSerializable<NBTTagCompound> {
 			forwardMotion *= 0.65f;
 		}
 		this.tearUpGrass();
-		boolean sendUpdate = (vehicle.motionX != 0 || vehicle.motionY != 0 || vehicle.motionZ != 0 || vehicle.rotationYaw != vehicle.prevRotationYaw || vehicle.rotationPitch != vehicle.prevRotationPitch);
-		sendUpdate = sendUpdate || vehicle.getControllingPassenger() != null;
-		sendUpdate = sendUpdate || this.vehicle.ticksExisted % 60 == 0;
-		if (sendUpdate) {
-			boolean air = move == VehicleMovementType.AIR1 || move == VehicleMovementType.AIR2;
-			float motion = air ? throttle : forwardMotion;
-			PacketVehicleBase pkt = new PacketVehicleMove(vehicle, vehicle.posX, vehicle.posY, vehicle.posZ, air, motion, vehicle.rotationYaw, vehicle.rotationPitch);
-			NetworkHandler.sendToAllTracking(vehicle, pkt);
+		boolean air = move == VehicleMovementType.AIR1 || move == VehicleMovementType.AIR2;
+		sendMoveUpdates(air, air ? throttle : forwardMotion);
+	}
+
+	private void sendMoveUpdates(boolean air, float motion) {
+		Set<? extends EntityPlayer> trackers = ((WorldServer) vehicle.world).getEntityTracker().getTrackingPlayers(vehicle);
+		trackerStates.keySet().retainAll(trackers);
+		short quantizedMotion = PacketVehicleMove.quantizeMotion(motion);
+		for (EntityPlayer player : trackers) {
+			double distSq = player.getDistanceSq(vehicle);
+			int interval = distSq < NEAR_SYNC_RANGE_SQ ? 1 : distSq < MID_SYNC_RANGE_SQ ? 2 : 4;
+			PacketVehicleMove pkt = trackerStates.computeIfAbsent(player, p -> new TrackerState()).createUpdate(vehicle, air, quantizedMotion, interval);
+			if (pkt != null) {
+				NetworkHandler.sendToPlayer((EntityPlayerMP) player, pkt);
+			}
 		}
 	}
 
@@ -606,4 +675,71 @@ public class VehicleMoveHelper implements INBTSerializable<NBTTagCompound> {
 	public byte getTurnInput() {
 		return turnInput;
 	}
+
+	/*
+	 * State last sent to one tracking player. Deltas are applied to it exactly the way the client applies them, so rounding
+	 * errors don't add up. As packets arrive in order the last sent state is the one the client applies the next delta to.
+	 */
+	private static class TrackerState {
+		private boolean initialized = false;
+		private double x;
+		private double y;
+		private double z;
+		private float yaw;
+		private float pitch;
+		private boolean air;
+		private short motion;
+		private int ticksSinceUpdate = 0;
+		private int ticksSinceFullUpdate = 0;
+
+		@Nullable
+		private PacketVehicleMove createUpdate(VehicleBase vehicle, boolean air, short motion, int interval) {
+			ticksSinceUpdate++;
+			ticksSinceFullUpdate++;
+			if (!initialized || ticksSinceFullUpdate >= FULL_UPDATE_INTERVAL) {
+				return createFullUpdate(vehicle, air, motion);
+			}
+			if (ticksSinceUpdate < interval) {
+				return null;
+			}
+			long deltaX = Math.round((vehicle.posX - x) * PacketVehicleMove.POSITION_SCALE);
+			long deltaY = Math.round((vehicle.posY - y) * PacketVehicleMove.POSITION_SCALE);
+			long deltaZ = Math.round((vehicle.posZ - z) * PacketVehicleMove.POSITION_SCALE);
+			int deltaYaw = Math.round((vehicle.rotationYaw - yaw) * PacketVehicleMove.ROTATION_SCALE);
+			int deltaPitch = Math.round((vehicle.rotationPitch - pitch) * PacketVehicleMove.ROTATION_SCALE);
+			if (deltaX == 0 && deltaY == 0 && deltaZ == 0 && deltaYaw == 0 && deltaPitch == 0 && air == this.air && motion == this.motion) {
+				return null;
+			}
+			if (!fitsShort(deltaX) || !fitsShort(deltaY) || !fitsShort(deltaZ) || !fitsShort(deltaYaw) || !fitsShort(deltaPitch)) {
+				return createFullUpdate(vehicle, air, motion);
+			}
+			x += (short) deltaX / PacketVehicleMove.POSITION_SCALE;
+			y += (short) deltaY / PacketVehicleMove.POSITION_SCALE;
+			z += (short) deltaZ / PacketVehicleMove.POSITION_SCALE;
+			yaw += (short) deltaYaw / PacketVehicleMove.ROTATION_SCALE;
+			pitch += (short) deltaPitch / PacketVehicleMove.ROTATION_SCALE;
+			this.air = air;
+			this.motion = motion;
+			ticksSinceUpdate = 0;
+			return PacketVehicleMove.delta(vehicle, (short) deltaX, (short) deltaY, (short) deltaZ, air, motion, (short) deltaYaw, (short) deltaPitch);
+		}
+
+		private PacketVehicleMove createFullUpdate(VehicleBase vehicle, boolean air, short motion) {
+			initialized = true;
+			x = vehicle.posX;
+			y = vehicle.posY;
+			z = vehicle.posZ;
+			yaw = vehicle.rotationYaw;
+			pitch = vehicle.rotationPitch;
+			this.air = air;
+			this.motion = motion;
+			ticksSinceUpdate = 0;
+			ticksSinceFullUpdate = 0;
+			return PacketVehicleMove.full(vehicle, x, y, z, air, motion, yaw, pitch);
+		}
+
+		private static boolean fitsShort(long value) {
+			return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE;
+		}
+	}
 }
@@ -17,6 +17,7 @@ import net.minecraftforge.fml.common.gameevent.InputEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
 import net.shadowmage.ancientwarfare.core.input.InputHandler;
 import net.shadowmage.ancientwarfare.core.network.NetworkHandler;
 import net.shadowmage.ancientwarfare.vehicle.config.AWVehicleStatics;
@@ -175,7 +176,7 @@ public class VehicleInputHandler {
 		Minecraft mc = Minecraft.getMinecraft();
 
 		//noinspection ConstantConditions
-		List<Entity> possibleHitEntities = mc.world.getEntitiesWithinAABBExcludingEntity(mc.getRenderViewEntity(),
+		List<Entity> possibleHitEntities = LargeEntityIndex.getEntitiesWithinAABBExcludingEntity(mc.world, mc.getRenderViewEntity(),
 				mc.getRenderViewEntity().getEntityBoundingBox().expand(lookVector.x * MAX_RANGE, lookVector.y * MAX_RANGE, lookVector.z * MAX_RANGE)
 						.grow(1, 1, 1));
 		return possibleHitEntities.stream().filter(e -> e != excludedEntity && e.canBeCollidedWith())
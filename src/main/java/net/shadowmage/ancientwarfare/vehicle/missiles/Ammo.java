@@ -236,7 +236,7 @@ public abstract class Ammo implements IAmmo {
 		boolean destroyBlocks = AWVehicleStatics.blockDestruction;
 		boolean fires = AWVehicleStatics.blockFires;
 
-		world.newExplosion(missile, x, y, z, power, fires, destroyBlocks);
+		ExplosionBatcher.INSTANCE.queueExplosion(world, missile, x, y, z, power, fires, destroyBlocks);
 	}
 
 	protected void spawnGroundBurst(World world, RayTraceResult hit, float maxVelocity, IAmmo type, int count, float minPitch, Entity shooter) {
@@ -246,7 +246,7 @@ public abstract class Ammo implements IAmmo {
 	}
 
 	private void spawnBurst(World world, float maxVelocity, IAmmo type, int count, float minPitch, Entity shooter, EnumFacing sideHit, float x, float y, float z) {
-		world.newExplosion(null, x, y, z, 0.25f, false, true);
+		ExplosionBatcher.INSTANCE.queueExplosion(world, null, x, y, z, 0.25f, false, true);
 		createExplosion(world, null, x, y, z, 1.f);
 		float randRange = 90 - minPitch;
 		if (type.hasSecondaryAmmo()) {
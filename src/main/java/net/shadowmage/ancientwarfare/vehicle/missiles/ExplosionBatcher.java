@@ -0,0 +1,277 @@
+package net.shadowmage.ancientwarfare.vehicle.missiles;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.enchantment.EnchantmentProtection;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.SoundEvents;
+import net.minecraft.network.play.server.SPacketExplosion;
+import net.minecraft.util.DamageSource;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.World;
+import net.minecraftforge.event.ForgeEventFactory;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Collects the explosions caused by ammo impacts during a world tick and resolves them at the end of the tick.
+ * Explosions centered in the same chunk column are resolved as one group: each explosion still casts its own rays and
+ * damages entities, places fire and sends its effect packet the way a vanilla explosion does, but the entities are
+ * collected once per group and blocks hit by several explosions are destroyed once.
+ *
+ * All rays of a group are cast against the world as it was before any of the group's blocks were destroyed, so
+ * overlapping explosions don't dig into the craters of the explosions resolved before them.
+ */
+public class ExplosionBatcher {
+	public static final ExplosionBatcher INSTANCE = new ExplosionBatcher();
+
+	private static final double PACKET_RANGE_SQ = 4096;
+
+	private final Map<World, Map<Long, List<PendingExplosion>>> pendingExplosions = new IdentityHashMap<>();
+
+	private ExplosionBatcher() {}
+
+	public void queueExplosion(World world, @Nullable Entity exploder, double x, double y, double z, float size, boolean fires, boolean destroyBlocks) {
+		if (world.isRemote) {
+			world.newExplosion(exploder, x, y, z, size, fires, destroyBlocks);
+			return;
+		}
+		Explosion explosion = new Explosion(world, exploder, x, y, z, size, fires, destroyBlocks);
+		if (ForgeEventFactory.onExplosionStart(world, explosion)) {
+			return;
+		}
+		pendingExplosions.computeIfAbsent(world, w -> new LinkedHashMap<>())
+				.computeIfAbsent(ChunkPos.asLong(MathHelper.floor(x) >> 4, MathHelper.floor(z) >> 4), k -> new ArrayList<>())
+				.add(new PendingExplosion(explosion, exploder, x, y, z, size, fires, destroyBlocks));
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != TickEvent.Phase.END || evt.world.isRemote) {
+			return;
+		}
+		Map<Long, List<PendingExplosion>> groups = pendingExplosions.remove(evt.world);
+		if (groups != null) {
+			groups.values().forEach(group -> resolveGroup(evt.world, group));
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		pendingExplosions.remove(evt.getWorld());
+	}
+
+	private void resolveGroup(World world, List<PendingExplosion> group) {
+		AxisAlignedBB groupBounds = null;
+		for (PendingExplosion pending : group) {
+			groupBounds = groupBounds == null ? pending.getEntityBounds() : groupBounds.union(pending.getEntityBounds());
+		}
+		List<Entity> groupEntities = LargeEntityIndex.getEntitiesWithinAABBExcludingEntity(world, null, groupBounds);
+
+		Map<BlockPos, PendingExplosion> affectedBlocks = new LinkedHashMap<>();
+		Set<BlockPos> firePositions = new HashSet<>();
+		for (PendingExplosion pending : group) {
+			//detonate listeners (e.g. claim mods) may remove blocks from the explosion's list, only what is left gets destroyed
+			List<BlockPos> blocks = pending.explosion.getAffectedBlockPositions();
+			blocks.addAll(pending.castRays(world));
+			List<Entity> entities = pending.getEntitiesInRange(groupEntities);
+			ForgeEventFactory.onExplosionDetonate(world, pending.explosion, entities, pending.size * 2.0F);
+			pending.damageEntities(world, entities);
+			if (pending.destroyBlocks) {
+				blocks.forEach(pos -> affectedBlocks.putIfAbsent(pos, pending));
+			}
+			//same as Explosion.doExplosionB, fire is placed whether or not the explosion destroys blocks
+			if (pending.fires) {
+				firePositions.addAll(blocks);
+			}
+		}
+
+		for (PendingExplosion pending : group) {
+			world.playSound(null, pending.x, pending.y, pending.z, SoundEvents.ENTITY_GENERIC_EXPLODE, SoundCategory.BLOCKS, 4.0F,
+					(1.0F + (world.rand.nextFloat() - world.rand.nextFloat()) * 0.2F) * 0.7F);
+		}
+		destroyBlocks(world, affectedBlocks);
+		placeFires(world, firePositions);
+
+		for (PendingExplosion pending : group) {
+			pending.sendPackets(world);
+		}
+	}
+
+	private void destroyBlocks(World world, Map<BlockPos, PendingExplosion> affectedBlocks) {
+		for (Map.Entry<BlockPos, PendingExplosion> entry : affectedBlocks.entrySet()) {
+			BlockPos pos = entry.getKey();
+			IBlockState state = world.getBlockState(pos);
+			Block block = state.getBlock();
+			if (state.getMaterial() != Material.AIR) {
+				Explosion explosion = entry.getValue().explosion;
+				if (block.canDropFromExplosion(explosion)) {
+					block.dropBlockAsItemWithChance(world, pos, state, 1.0F / entry.getValue().size, 0);
+				}
+				block.onBlockExploded(world, pos, explosion);
+			}
+		}
+	}
+
+	private void placeFires(World world, Set<BlockPos> firePositions) {
+		for (BlockPos pos : firePositions) {
+			if (world.getBlockState(pos).getMaterial() == Material.AIR && world.getBlockState(pos.down()).isFullBlock() && world.rand.nextInt(3) == 0) {
+				world.setBlockState(pos, Blocks.FIRE.getDefaultState());
+			}
+		}
+	}
+
+	private static class PendingExplosion {
+		private final Explosion explosion;
+		@Nullable
+		private final Entity exploder;
+		private final double x;
+		private final double y;
+		private final double z;
+		private final float size;
+		private final boolean fires;
+		private final boolean destroyBlocks;
+		private final Map<EntityPlayer, Vec3d> playerKnockback = new HashMap<>();
+
+		private PendingExplosion(Explosion explosion, @Nullable Entity exploder, double x, double y, double z, float size, boolean fires, boolean destroyBlocks) {
+			this.explosion = explosion;
+			this.exploder = exploder;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.size = size;
+			this.fires = fires;
+			this.destroyBlocks = destroyBlocks;
+		}
+
+		private AxisAlignedBB getEntityBounds() {
+			float range = size * 2.0F;
+			return new AxisAlignedBB(MathHelper.floor(x - range - 1.0D), MathHelper.floor(y - range - 1.0D), MathHelper.floor(z - range - 1.0D),
+					MathHelper.floor(x + range + 1.0D), MathHelper.floor(y + range + 1.0D), MathHelper.floor(z + range + 1.0D));
+		}
+
+		private List<Entity> getEntitiesInRange(List<Entity> groupEntities) {
+			AxisAlignedBB bounds = getEntityBounds();
+			List<Entity> ret = new ArrayList<>();
+			for (Entity entity : groupEntities) {
+				if (entity != exploder && entity.getEntityBoundingBox().intersects(bounds)) {
+					ret.add(entity);
+				}
+			}
+			return ret;
+		}
+
+		//same ray pattern and resistance rules as Explosion.doExplosionA
+		private Set<BlockPos> castRays(World world) {
+			Set<BlockPos> ret = new HashSet<>();
+			BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+			for (int j = 0; j < 16; ++j) {
+				for (int k = 0; k < 16; ++k) {
+					for (int l = 0; l < 16; ++l) {
+						if (j != 0 && j != 15 && k != 0 && k != 15 && l != 0 && l != 15) {
+							continue;
+						}
+						double dx = j / 15.0F * 2.0F - 1.0F;
+						double dy = k / 15.0F * 2.0F - 1.0F;
+						double dz = l / 15.0F * 2.0F - 1.0F;
+						double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+						dx /= length;
+						dy /= length;
+						dz /= length;
+						float strength = size * (0.7F + world.rand.nextFloat() * 0.6F);
+						double rx = x;
+						double ry = y;
+						double rz = z;
+						for (; strength > 0.0F; strength -= 0.22500001F) {
+							pos.setPos(rx, ry, rz);
+							IBlockState state = world.getBlockState(pos);
+							if (state.getMaterial() != Material.AIR) {
+								float resistance = exploder != null ? exploder.getExplosionResistance(explosion, world, pos, state) :
+										state.getBlock().getExplosionResistance(world, pos, null, explosion);
+								strength -= (resistance + 0.3F) * 0.3F;
+							}
+							if (strength > 0.0F && (exploder == null || exploder.canExplosionDestroyBlock(explosion, world, pos, state, strength))) {
+								ret.add(pos.toImmutable());
+							}
+							rx += dx * 0.30000001192092896D;
+							ry += dy * 0.30000001192092896D;
+							rz += dz * 0.30000001192092896D;
+						}
+					}
+				}
+			}
+			return ret;
+		}
+
+		//same damage and knockback as Explosion.doExplosionA, player knockback is sent with the explosion's packet
+		private void damageEntities(World world, List<Entity> entities) {
+			float range = size * 2.0F;
+			Vec3d center = new Vec3d(x, y, z);
+			for (Entity entity : entities) {
+				if (entity.isImmuneToExplosions()) {
+					continue;
+				}
+				double distance = entity.getDistance(x, y, z) / range;
+				if (distance > 1.0D) {
+					continue;
+				}
+				double dx = entity.posX - x;
+				double dy = entity.posY + entity.getEyeHeight() - y;
+				double dz = entity.posZ - z;
+				double length = MathHelper.sqrt(dx * dx + dy * dy + dz * dz);
+				if (length == 0.0D) {
+					continue;
+				}
+				dx /= length;
+				dy /= length;
+				dz /= length;
+				double exposure = (1.0D - distance) * world.getBlockDensity(center, entity.getEntityBoundingBox());
+				entity.attackEntityFrom(DamageSource.causeExplosionDamage(explosion), (float) ((int) ((exposure * exposure + exposure) / 2.0D * 7.0D * range + 1.0D)));
+				double knockback = entity instanceof EntityLivingBase ? EnchantmentProtection.getBlastDamageReduction((EntityLivingBase) entity, exposure) : exposure;
+				entity.motionX += dx * knockback;
+				entity.motionY += dy * knockback;
+				entity.motionZ += dz * knockback;
+				if (entity instanceof EntityPlayer) {
+					EntityPlayer player = (EntityPlayer) entity;
+					if (!player.isSpectator() && (!player.isCreative() || !player.capabilities.isFlying)) {
+						playerKnockback.put(player, new Vec3d(dx * exposure, dy * exposure, dz * exposure));
+					}
+				}
+			}
+		}
+
+		//same packets as WorldServer.newExplosion, so clients show particles and sound at every impact point
+		private void sendPackets(World world) {
+			List<BlockPos> blocks = destroyBlocks ? explosion.getAffectedBlockPositions() : Collections.emptyList();
+			for (EntityPlayer player : world.playerEntities) {
+				if (player instanceof EntityPlayerMP && player.getDistanceSq(x, y, z) < PACKET_RANGE_SQ) {
+					((EntityPlayerMP) player).connection.sendPacket(new SPacketExplosion(x, y, z, size, blocks, playerKnockback.get(player)));
+				}
+			}
+		}
+	}
+}
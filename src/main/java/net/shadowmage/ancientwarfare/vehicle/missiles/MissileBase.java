@@ -25,7 +25,6 @@ import net.shadowmage.ancientwarfare.core.util.Trig;
 import net.shadowmage.ancientwarfare.vehicle.entity.IMissileHitCallback;
 import net.shadowmage.ancientwarfare.vehicle.registry.AmmoRegistry;
 
-import java.util.Iterator;
 import java.util.List;
 
 public class MissileBase extends Entity implements IEntityAdditionalSpawnData {
@@ -166,39 +165,24 @@ public class MissileBase extends Entity implements IEntityAdditionalSpawnData {
 			return;//don't bother checking when travelling upwards, wait until the downward swing...
 		}
 		//check ground.
-		int groundDiff = 0;
 		int x = (int) posX;
 		int y = (int) posY;
 		int z = (int) posZ;
 		boolean impacted = false;
-		if (ammoType.groundProximity() > 0) {
-			while (groundDiff <= ammoType.groundProximity()) {
-				groundDiff++;
-				if (!world.isAirBlock(new BlockPos(x, y - groundDiff, z))) {
-					this.onImpactWorld(new RayTraceResult(new Vec3d(x, y, z), EnumFacing.DOWN, new BlockPos(x, y, z))); //TODO correct raytraceresult created? Test
-					impacted = true;
-					break;
-				}
-			}
+		if (ammoType.groundProximity() > 0 && MissileBroadphase.hasBlockBelow(world, x, y, z, (int) ammoType.groundProximity() + 1)) {
+			this.onImpactWorld(new RayTraceResult(new Vec3d(x, y, z), EnumFacing.DOWN, new BlockPos(x, y, z))); //TODO correct raytraceresult created? Test
+			impacted = true;
 		}
 		//check entities if not detonated by ground
 		if (!impacted && ammoType.entityProximity() > 0) {
 			float entProx = ammoType.entityProximity();
 			float foundDist = 0;
-			List entities = world.getEntitiesWithinAABBExcludingEntity(this, new AxisAlignedBB(posX - entProx, posY - entProx, posZ - entProx, posX + entProx, posY + entProx, posZ + entProx));
-			if (!entities.isEmpty()) {
-				Iterator it = entities.iterator();
-				Entity ent;
-				while (it.hasNext()) {
-					ent = (Entity) it.next();
-					if (ent != null && ent.getClass() != MissileBase.class)//don't collide with missiles
-					{
-						foundDist = this.getDistance(ent);
-						if (foundDist < entProx) {
-							this.onImpactEntity(ent, (float) posX, (float) posY, (float) posZ);
-							break;
-						}
-					}
+			//missiles are not in the broadphase so they don't collide with each other
+			for (Entity ent : MissileBroadphase.INSTANCE.getEntitiesWithinAABB(world, new AxisAlignedBB(posX - entProx, posY - entProx, posZ - entProx, posX + entProx, posY + entProx, posZ + entProx))) {
+				foundDist = this.getDistance(ent);
+				if (foundDist < entProx) {
+					this.onImpactEntity(ent, (float) posX, (float) posY, (float) posZ);
+					break;
 				}
 			}
 		}
@@ -221,12 +205,12 @@ public class MissileBase extends Entity implements IEntityAdditionalSpawnData {
 				testEntities = false;
 			}
 			if (testEntities) {
-				List nearbyEntities = this.world.getEntitiesWithinAABBExcludingEntity(this, this.getEntityBoundingBox().offset(this.motionX, this.motionY, this.motionZ).grow(1.0D, 1.0D, 1.0D));
+				List<Entity> nearbyEntities = MissileBroadphase.INSTANCE.getEntitiesWithinAABB(world, this.getEntityBoundingBox().offset(this.motionX, this.motionY, this.motionZ).grow(1.0D, 1.0D, 1.0D));
 				double closestHit = 0.0D;
 				float borderSize;
 
 				for (int i = 0; i < nearbyEntities.size(); ++i) {
-					Entity curEnt = (Entity) nearbyEntities.get(i);
+					Entity curEnt = nearbyEntities.get(i);
 					if (curEnt.canBeCollidedWith()) {
 						if (this.launcher != null) {
 							if (curEnt == this.launcher || curEnt == this.launcher.getControllingPassenger() || curEnt == this.shooterLiving || curEnt == this.shooter) {
@@ -0,0 +1,113 @@
+package net.shadowmage.ancientwarfare.vehicle.missiles;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.shadowmage.ancientwarfare.core.entity.LargeEntityIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Per tick spatial hash of the entities missiles can hit, shared by all missiles of a world.
+ * The hash is made of 16x16x16 cells that are filled with a single entity query the first time a missile looks into them
+ * during a tick, so many missiles flying through the same area cost one entity query per cell instead of one or two per
+ * missile. Missiles are left out of the hash as they never hit each other, which keeps cells small during volleys.
+ *
+ * Cells are filled with a margin around them so that entities which move into a cell after it was filled in the same
+ * tick are still candidates, the hit tests themselves always use the current bounding boxes.
+ */
+public class MissileBroadphase {
+	public static final MissileBroadphase INSTANCE = new MissileBroadphase();
+
+	private static final int CELL_SHIFT = 4;
+	private static final double CELL_MARGIN = 2.0D;
+
+	private final Map<World, WorldCells> worldCells = new ConcurrentHashMap<>();
+
+	private MissileBroadphase() {}
+
+	/*
+	 * Entities other than missiles whose bounding box intersects the box
+	 */
+	public List<Entity> getEntitiesWithinAABB(World world, AxisAlignedBB bb) {
+		WorldCells cells = worldCells.computeIfAbsent(world, w -> new WorldCells());
+		if (cells.tick != world.getTotalWorldTime()) {
+			cells.tick = world.getTotalWorldTime();
+			cells.entitiesByCell.clear();
+		}
+		int minX = MathHelper.floor(bb.minX) >> CELL_SHIFT;
+		int minY = MathHelper.floor(bb.minY) >> CELL_SHIFT;
+		int minZ = MathHelper.floor(bb.minZ) >> CELL_SHIFT;
+		int maxX = MathHelper.floor(bb.maxX) >> CELL_SHIFT;
+		int maxY = MathHelper.floor(bb.maxY) >> CELL_SHIFT;
+		int maxZ = MathHelper.floor(bb.maxZ) >> CELL_SHIFT;
+		Set<Entity> found = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Entity> ret = new ArrayList<>();
+		for (int cx = minX; cx <= maxX; cx++) {
+			for (int cy = minY; cy <= maxY; cy++) {
+				for (int cz = minZ; cz <= maxZ; cz++) {
+					for (Entity entity : cells.getCell(world, cx, cy, cz)) {
+						if (!entity.isDead && entity.getEntityBoundingBox().intersects(bb) && found.add(entity)) {
+							ret.add(entity);
+						}
+					}
+				}
+			}
+		}
+		return ret;
+	}
+
+	/*
+	 * Whether there is a non air block in the column below the position within the given depth (y - 1 to y - depth).
+	 * Sections above the top filled section of the chunk are skipped without looking at their blocks.
+	 */
+	public static boolean hasBlockBelow(World world, int x, int y, int z, int depth) {
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, y, z);
+		Chunk chunk = world.getChunkFromBlockCoords(pos);
+		int startY = Math.min(y - 1, chunk.getTopFilledSegment() + 15);
+		for (int blockY = startY; blockY >= y - depth && blockY >= 0; blockY--) {
+			pos.setY(blockY);
+			IBlockState state = chunk.getBlockState(pos);
+			if (!state.getBlock().isAir(state, world, pos)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		worldCells.remove(evt.getWorld());
+	}
+
+	private static class WorldCells {
+		private long tick = -1;
+		private final Map<Long, List<Entity>> entitiesByCell = new HashMap<>();
+
+		private List<Entity> getCell(World world, int cx, int cy, int cz) {
+			long key = ((long) cx & 0x3FFFFFL) << 42 | ((long) cy & 0xFFFFFL) << 22 | (long) cz & 0x3FFFFFL;
+			List<Entity> cell = entitiesByCell.get(key);
+			if (cell == null) {
+				AxisAlignedBB cellBounds = new AxisAlignedBB(cx << CELL_SHIFT, cy << CELL_SHIFT, cz << CELL_SHIFT, (cx + 1) << CELL_SHIFT,
+						(cy + 1) << CELL_SHIFT, (cz + 1) << CELL_SHIFT).grow(CELL_MARGIN);
+				cell = LargeEntityIndex.getEntitiesWithinAABBExcludingEntity(world, null, cellBounds);
+				cell.removeIf(entity -> entity instanceof MissileBase);
+				entitiesByCell.put(key, cell);
+			}
+			return cell;
+		}
+	}
+}
@@ -1,60 +1,125 @@
 package net.shadowmage.ancientwarfare.vehicle.network;
 
 import io.netty.buffer.ByteBuf;
+import net.minecraft.util.math.MathHelper;
 import net.shadowmage.ancientwarfare.vehicle.entity.VehicleBase;
 
 import java.io.IOException;
 
+/*
+ * Either a full state update or a delta relative to the last state sent to the receiving player.
+ * Delta positions are sent in 1/POSITION_SCALE blocks and delta rotations in 1/ROTATION_SCALE degrees, motion is always
+ * sent in 1/MOTION_SCALE blocks per tick. The receiver adds the deltas the same way the sender does, so both sides keep
+ * the exact same base state.
+ */
 public class PacketVehicleMove extends PacketVehicleBase {
+	public static final double POSITION_SCALE = 4096;
+	public static final float ROTATION_SCALE = 64;
+	public static final float MOTION_SCALE = 4096;
+
+	private static final int FLAG_FULL = 1;
+	private static final int FLAG_AIR = 2;
+
 	//TODO look into refactoring VehicleMoveHelper so that we don't need to synchronize data that is already on vehicle
+	private boolean full;
+	private boolean air;
+	private short motion;
 	private double posX;
 	private double posY;
 	private double posZ;
-	private boolean air;
-	private float motion;
 	private float yaw;
 	private float pitch;
+	private short deltaX;
+	private short deltaY;
+	private short deltaZ;
+	private short deltaYaw;
+	private short deltaPitch;
 
 	public PacketVehicleMove() {
 	}
 
-	public PacketVehicleMove(VehicleBase vehicle, double posX, double posY, double posZ, boolean air, float motion, float yaw, float pitch) {
+	private PacketVehicleMove(VehicleBase vehicle, boolean full, boolean air, short motion) {
 		super(vehicle);
-		this.posX = posX;
-		this.posY = posY;
-		this.posZ = posZ;
+		this.full = full;
 		this.air = air;
 		this.motion = motion;
-		this.yaw = yaw;
-		this.pitch = pitch;
+	}
+
+	public static PacketVehicleMove full(VehicleBase vehicle, double posX, double posY, double posZ, boolean air, short motion, float yaw, float pitch) {
+		PacketVehicleMove pkt = new PacketVehicleMove(vehicle, true, air, motion);
+		pkt.posX = posX;
+		pkt.posY = posY;
+		pkt.posZ = posZ;
+		pkt.yaw = yaw;
+		pkt.pitch = pitch;
+		return pkt;
+	}
+
+	public static PacketVehicleMove delta(VehicleBase vehicle, short deltaX, short deltaY, short deltaZ, boolean air, short motion, short deltaYaw, short deltaPitch) {
+		PacketVehicleMove pkt = new PacketVehicleMove(vehicle, false, air, motion);
+		pkt.deltaX = deltaX;
+		pkt.deltaY = deltaY;
+		pkt.deltaZ = deltaZ;
+		pkt.deltaYaw = deltaYaw;
+		pkt.deltaPitch = deltaPitch;
+		return pkt;
+	}
+
+	public static short quantizeMotion(float motion) {
+		return (short) MathHelper.clamp(Math.round(motion * MOTION_SCALE), Short.MIN_VALUE, Short.MAX_VALUE);
 	}
 
 	@Override
 	protected void writeToStream(ByteBuf data) {
 		super.writeToStream(data);
-		data.writeDouble(posX);
-		data.writeDouble(posY);
-		data.writeDouble(posZ);
-		data.writeBoolean(air);
-		data.writeFloat(motion);
-		data.writeFloat(yaw);
-		data.writeFloat(pitch);
+		data.writeByte((full ? FLAG_FULL : 0) | (air ? FLAG_AIR : 0));
+		data.writeShort(motion);
+		if (full) {
+			data.writeDouble(posX);
+			data.writeDouble(posY);
+			data.writeDouble(posZ);
+			data.writeFloat(yaw);
+			data.writeFloat(pitch);
+		} else {
+			data.writeShort(deltaX);
+			data.writeShort(deltaY);
+			data.writeShort(deltaZ);
+			data.writeShort(deltaYaw);
+			data.writeShort(deltaPitch);
+		}
 	}
 
 	@Override
 	protected void readFromStream(ByteBuf data) throws IOException {
 		super.readFromStream(data);
-		posX = data.readDouble();
-		posY = data.readDouble();
-		posZ = data.readDouble();
-		air = data.readBoolean();
-		motion = data.readFloat();
-		yaw = data.readFloat();
-		pitch = data.readFloat();
+		int flags = data.readUnsignedByte();
+		full = (flags & FLAG_FULL) != 0;
+		air = (flags & FLAG_AIR) != 0;
+		motion = data.readShort();
+		if (full) {
+			posX = data.readDouble();
+			posY = data.readDouble();
+			posZ = data.readDouble();
+			yaw = data.readFloat();
+			pitch = data.readFloat();
+		} else {
+			deltaX = data.readShort();
+			deltaY = data.readShort();
+			deltaZ = data.readShort();
+			deltaYaw = data.readShort();
+			deltaPitch = data.readShort();
+		}
 	}
 
 	@Override
 	public void execute() {
-		vehicle.moveHelper.updateMoveData(posX, posY, posZ, air, motion, yaw, pitch);
+		if (vehicle == null) {
+			return;
+		}
+		if (full) {
+			vehicle.moveHelper.updateMoveData(posX, posY, posZ, air, motion / MOTION_SCALE, yaw, pitch);
+		} else {
+			vehicle.moveHelper.updateMoveDelta(deltaX, deltaY, deltaZ, air, motion / MOTION_SCALE, deltaYaw, deltaPitch);
+		}
 	}
 }
@@ -39,6 +39,8 @@ public class Node implements Comparable {
 	public boolean obstacle = false;
 	;
 	public boolean closed = false;
+	//position in the open set heap, -1 if not in it
+	int heapIndex = -1;
 
 	public Node(BlockPos pos) {
 		this(pos.getX(), pos.getY(), pos.getZ());
@@ -61,6 +63,21 @@ public class Node implements Comparable {
 		return reassign(pos.getX(), pos.getY(), pos.getZ());
 	}
 
+	/*
+	 * Clears the search state of a pooled node and moves it to the position
+	 */
+	Node reset(int x, int y, int z) {
+		this.goalLenght = 0;
+		this.travelCost = 10;
+		this.parentNode = null;
+		this.g = Float.POSITIVE_INFINITY;
+		this.f = 0;
+		this.obstacle = false;
+		this.closed = false;
+		this.heapIndex = -1;
+		return reassign(x, y, z);
+	}
+
 	public Node reassign(int x, int y, int z) {
 		this.x = x;
 		this.y = y;
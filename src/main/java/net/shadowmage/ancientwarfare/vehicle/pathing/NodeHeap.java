@@ -0,0 +1,93 @@
+package net.shadowmage.ancientwarfare.vehicle.pathing;
+
+import java.util.Arrays;
+
+/*
+ * Binary min-heap of nodes ordered by f that keeps the heap position in each node, so membership checks are constant time
+ * and a node can be moved to its new place after its f changed instead of being left out of order in the queue.
+ */
+public class NodeHeap {
+	private Node[] nodes = new Node[128];
+	private int size = 0;
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean contains(Node node) {
+		return node.heapIndex >= 0;
+	}
+
+	public void offer(Node node) {
+		if (size == nodes.length) {
+			nodes = Arrays.copyOf(nodes, size * 2);
+		}
+		nodes[size] = node;
+		node.heapIndex = size;
+		size++;
+		siftUp(node.heapIndex);
+	}
+
+	public Node poll() {
+		Node ret = nodes[0];
+		size--;
+		if (size > 0) {
+			move(nodes[size], 0);
+			siftDown(0);
+		}
+		nodes[size] = null;
+		ret.heapIndex = -1;
+		return ret;
+	}
+
+	/*
+	 * Restores the heap order after the f of a node in the heap changed
+	 */
+	public void update(Node node) {
+		siftUp(node.heapIndex);
+		siftDown(node.heapIndex);
+	}
+
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			nodes[i].heapIndex = -1;
+			nodes[i] = null;
+		}
+		size = 0;
+	}
+
+	private void siftUp(int index) {
+		Node node = nodes[index];
+		while (index > 0) {
+			int parent = (index - 1) >> 1;
+			if (nodes[parent].f <= node.f) {
+				break;
+			}
+			move(nodes[parent], index);
+			index = parent;
+		}
+		move(node, index);
+	}
+
+	private void siftDown(int index) {
+		Node node = nodes[index];
+		int half = size >> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			if (child + 1 < size && nodes[child + 1].f < nodes[child].f) {
+				child++;
+			}
+			if (node.f <= nodes[child].f) {
+				break;
+			}
+			move(nodes[child], index);
+			index = child;
+		}
+		move(node, index);
+	}
+
+	private void move(Node node, int index) {
+		nodes[index] = node;
+		node.heapIndex = index;
+	}
+}
@@ -24,8 +24,9 @@ package net.shadowmage.ancientwarfare.vehicle.pathing;
 import net.minecraft.util.math.BlockPos;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
-import java.util.PriorityQueue;
+import java.util.Map;
 
 /**
  * going to be a theta-Star implementation
@@ -63,14 +64,20 @@ public class PathFinderThetaStar {
 	/**
 	 * OPEN-LIST
 	 */
-	private PriorityQueue<Node> qNodes = new PriorityQueue<Node>();
+	private NodeHeap qNodes = new NodeHeap();
 
 	/**
-	 * a list of all working-set nodes, both open and closed.  used to prevent spurious object creation
+	 * all working-set nodes, both open and closed, by packed position.  used to prevent spurious object creation
 	 * as well as keep already visited but closed nodes scores valid and cached, as well as for pulling
 	 * live nodes from the 'open-list' without having to manually synch them back in/update values
 	 */
-	private ArrayList<Node> allNodes = new ArrayList<Node>();
+	private Map<Long, Node> allNodes = new HashMap<>();
+
+	/**
+	 * nodes are reused between searches, the first pooledNodes of the pool are in use by the current search
+	 */
+	private ArrayList<Node> nodePool = new ArrayList<>();
+	private int pooledNodes = 0;
 
 	/**
 	 * current-node neighbors, just a cached list..
@@ -106,6 +113,7 @@ public class PathFinderThetaStar {
 	private float bestPathLength = 0.f;
 	private float bestPathDist = Float.POSITIVE_INFINITY;
 	private int searchIteration;
+	private boolean goalWalkable;
 
 	IPathableCallback caller = null;
 
@@ -113,6 +121,7 @@ public class PathFinderThetaStar {
 		this.allNodes.clear();
 		this.qNodes.clear();
 		this.searchNodes.clear();
+		this.pooledNodes = 0;
 		this.world = world;
 		this.caller = caller;
 		this.instantSearch = instant;
@@ -146,6 +155,7 @@ public class PathFinderThetaStar {
 		this.bestPathDist = Float.POSITIVE_INFINITY;
 		this.searchIteration = 0;
 		this.runTime = 0;
+		this.goalWalkable = world.isWalkable(tx, ty, tz) && world.isWalkable(tx, ty + 1, tz);
 	}
 
 	protected void onPathFound() {
@@ -169,6 +179,7 @@ public class PathFinderThetaStar {
 		this.allNodes.clear();
 		this.qNodes.clear();
 		this.searchNodes.clear();
+		this.pooledNodes = 0;
 		this.isSearching = false;
 	}
 
@@ -195,14 +206,11 @@ public class PathFinderThetaStar {
 	private boolean searchLoop() {
 		boolean isDoor = false;
 		boolean isPDoor = false;
-		Node goalCache = new Node(tx, ty, tz);
-		boolean goalWalkable = world.isWalkable(tx, ty, tz) && world.isWalkable(tx, ty + 1, tz);
 		this.searchIteration++;
 		if (this.qNodes.isEmpty()) {
 			return true;
 		}
 		this.currentNode = this.qNodes.poll();
-		this.allNodes.add(currentNode);
 		if (currentNode.equals(tx, ty, tz)) {
 			return true;
 		} else if (!goalWalkable)//TODO hack to get around un-pathable target positions
@@ -217,11 +225,11 @@ public class PathFinderThetaStar {
 		currentNode.closed = true;
 		this.findNeighbors(currentNode);
 		float tent;
-		isDoor = world.isDoor(currentNode.getPos());
-		isPDoor = currentNode.parentNode != null && world.isDoor(currentNode.parentNode.getPos());
+		isDoor = world.isDoor(currentNode.x, currentNode.y, currentNode.z);
+		isPDoor = currentNode.parentNode != null && world.isDoor(currentNode.parentNode.x, currentNode.parentNode.y, currentNode.parentNode.z);
 		boolean isNDoor = false;
 		for (Node n : this.searchNodes) {
-			isNDoor = world.isDoor(n.getPos());
+			isNDoor = world.isDoor(n.x, n.y, n.z);
 			//could test for goal here, and if found, set n.f =0, insert to priority q (force to head of line)
 			tent = currentNode.g + currentNode.getDistanceFrom(n);
 			if (n.closed && tent > n.g)//new path from current node to n (already examined node) is longer than n's current path, disregard
@@ -246,6 +254,8 @@ public class PathFinderThetaStar {
 				if (!qNodes.contains(n))//if we're not already going to examine n, put it in line to be examined
 				{
 					qNodes.offer(n);
+				} else {
+					qNodes.update(n);
 				}
 				n.closed = false;//go ahead and set n to open again...I don't think this really matters....
 			}
@@ -352,7 +362,7 @@ public class PathFinderThetaStar {
 					}
 				} else if (p.y < y)//moving up from parent, check parent.y ->parent.y+2
 				{
-					if (world.isPartialBlock(p.getPos().down()))//check to make sure its not going to be too far to jump up
+					if (world.isPartialBlock(p.x, p.y - 1, p.z))//check to make sure its not going to be too far to jump up
 					{
 						return;
 					}
@@ -370,20 +380,22 @@ public class PathFinderThetaStar {
 	}
 
 	private Node getOrMakeNode(int x, int y, int z, Node p) {
-		Node n = null;
-		for (Node c : this.allNodes) {
-			if (c.equals(x, y, z)) {
-				return c;
-			}
+		long key = ((long) x & 0x3FFFFFFL) << 38 | ((long) y & 0xFFFL) << 26 | (long) z & 0x3FFFFFFL;
+		Node n = allNodes.get(key);
+		if (n != null) {
+			return n;
+		}
+		if (pooledNodes == nodePool.size()) {
+			nodePool.add(new Node(x, y, z));
 		}
-		n = new Node(x, y, z);
+		n = nodePool.get(pooledNodes++).reset(x, y, z);
 		if (p != null) {
-			n.travelCost = world.getTravelCost(new BlockPos(x, y, z));
+			n.travelCost = world.getTravelCost(x, y, z);
 			n.parentNode = p;
 			n.g = p.g + n.getDistanceFrom(p) + n.travelCost;
 			n.f = n.g + n.getDistanceFrom(tx, ty, tz);
 		}
-		allNodes.add(n);
+		allNodes.put(key, n);
 		return n;
 	}
 
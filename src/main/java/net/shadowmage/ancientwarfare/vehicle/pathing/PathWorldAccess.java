@@ -11,6 +11,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.shadowmage.ancientwarfare.core.util.WorldTools;
 import net.shadowmage.ancientwarfare.structure.init.AWStructureBlocks;
 import net.shadowmage.ancientwarfare.structure.tile.TEGateProxy;
@@ -25,6 +26,10 @@ public class PathWorldAccess {
 
 	private World world;
 
+	//last chunk read from, path searches keep probing the same few chunks so this saves most of the chunk lookups
+	private Chunk cachedChunk = null;
+	private final BlockPos.MutableBlockPos probePos = new BlockPos.MutableBlockPos();
+
 	public PathWorldAccess(World world) {
 		this.world = world;
 	}
@@ -37,11 +42,28 @@ public class PathWorldAccess {
 	}
 
 	public Block getBlock(BlockPos pos) {
-		return world.getBlockState(pos).getBlock();
+		return getBlockState(pos.getX(), pos.getY(), pos.getZ()).getBlock();
+	}
+
+	private Block getBlock(int x, int y, int z) {
+		return getBlockState(x, y, z).getBlock();
+	}
+
+	private IBlockState getBlockState(int x, int y, int z) {
+		Chunk chunk = cachedChunk;
+		if (chunk == null || !chunk.isLoaded() || chunk.x != x >> 4 || chunk.z != z >> 4) {
+			chunk = world.getChunkFromChunkCoords(x >> 4, z >> 4);
+			cachedChunk = chunk;
+		}
+		return chunk.getBlockState(x, y, z);
 	}
 
 	public int getTravelCost(BlockPos pos) {
-		Block block = getBlock(pos);
+		return getTravelCost(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	public int getTravelCost(int x, int y, int z) {
+		Block block = getBlock(x, y, z);
 		if (block == Blocks.WATER || block == Blocks.FLOWING_WATER) {//can't swim check
 			if (!canGoOnLand) {
 				return 10;
@@ -60,8 +82,7 @@ public class PathWorldAccess {
 	 * @return true if it is a pathable block, false if it fails bounds checks
 	 */
 	public boolean checkBlockBounds(int x, int y, int z) {
-		BlockPos pos = new BlockPos(x, y, z);
-		IBlockState state = world.getBlockState(pos);
+		IBlockState state = getBlockState(x, y, z);
 		Block block = state.getBlock();
 		if (block == Blocks.WATER || block == Blocks.FLOWING_WATER) {
 			return true;
@@ -69,7 +90,7 @@ public class PathWorldAccess {
 			return state.getValue(BlockTrapDoor.OPEN);
 		}
 		if (block != Blocks.AIR) {
-			AxisAlignedBB bb = block.getCollisionBoundingBox(state, world, pos);
+			AxisAlignedBB bb = block.getCollisionBoundingBox(state, world, probePos.setPos(x, y, z));
 			if (bb == null) {
 				return true;
 			}
@@ -81,24 +102,23 @@ public class PathWorldAccess {
 	}
 
 	private boolean isWalkable2(int x, int y, int z) {
-		BlockPos pos = new BlockPos(x, y, z);
-		Block block = getBlock(pos);
-		Block blockDown = getBlock(pos.down());
-		Block blockUp = getBlock(pos.up());
+		Block block = getBlock(x, y, z);
+		Block blockDown = getBlock(x, y - 1, z);
+		Block blockUp = getBlock(x, y + 1, z);
 		boolean cube = !checkBlockBounds(x, y, z);
 		boolean cube2 = !checkBlockBounds(x, y - 1, z);
 		boolean cube3 = !checkBlockBounds(x, y + 1, z);
-		if (isFence(blockDown) || (isDoor(pos.down()) && isDoor(pos)) || (block == Blocks.CACTUS || blockDown == Blocks.CACTUS || blockUp == Blocks.CACTUS)) {
+		if (isFence(blockDown) || (isDoor(x, y - 1, z) && isDoor(x, y, z)) || (block == Blocks.CACTUS || blockDown == Blocks.CACTUS || blockUp == Blocks.CACTUS)) {
 			return false;
 		}
 		if (canGoOnLand) {
 			if (canUseLaders && isLadder(block)) {
 				return true;
 			}
-			if (canOpenDoors && isDoor(pos) && cube2) {
+			if (canOpenDoors && isDoor(x, y, z) && cube2) {
 				return true;
 			}
-			if (!cube && !cube3 && (cube2 || canSupport(block, pos)))//finally, check if block and blockY+1 are clear and blockY-1 is solid
+			if (!cube && !cube3 && (cube2 || canSupport(block, x, y, z)))//finally, check if block and blockY+1 are clear and blockY-1 is solid
 			{
 				return true;
 			}
@@ -107,9 +127,13 @@ public class PathWorldAccess {
 	}
 
 	public boolean isPartialBlock(BlockPos pos) {
-		IBlockState state = world.getBlockState(pos);
+		return isPartialBlock(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	public boolean isPartialBlock(int x, int y, int z) {
+		IBlockState state = getBlockState(x, y, z);
 		if (state.getBlock() != Blocks.AIR) {
-			AxisAlignedBB bb = state.getCollisionBoundingBox(world, pos);
+			AxisAlignedBB bb = state.getCollisionBoundingBox(world, probePos.setPos(x, y, z));
 			if (bb == null) {
 				return false;
 			}
@@ -120,12 +144,12 @@ public class PathWorldAccess {
 		return false;
 	}
 
-	private boolean canSupport(Block block, BlockPos pos) {
-		IBlockState state = world.getBlockState(pos);
+	private boolean canSupport(Block block, int x, int y, int z) {
+		IBlockState state = getBlockState(x, y, z);
 		if (block == Blocks.TRAPDOOR) {
 			return !state.getValue(BlockTrapDoor.OPEN) && state.getValue(BlockTrapDoor.HALF) == BlockTrapDoor.DoorHalf.BOTTOM;
 		}
-		AxisAlignedBB bb = block.getCollisionBoundingBox(state, world, pos);
+		AxisAlignedBB bb = block.getCollisionBoundingBox(state, world, probePos.setPos(x, y, z));
 		return bb != null && bb.maxY <= 0.5d && bb.minX < 0.35 && bb.maxX > 0.65 && bb.minZ < 0.35 && bb.maxZ > 0.65;
 	}
 
@@ -142,10 +166,14 @@ public class PathWorldAccess {
 	}
 
 	public boolean isDoor(BlockPos pos) {
-		IBlockState state = world.getBlockState(pos);
+		return isDoor(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	public boolean isDoor(int x, int y, int z) {
+		IBlockState state = getBlockState(x, y, z);
 		Block block = state.getBlock();
 		if (block == AWStructureBlocks.GATE_PROXY) {
-			return WorldTools.getTile(world, pos, TEGateProxy.class)
+			return WorldTools.getTile(world, new BlockPos(x, y, z), TEGateProxy.class)
 					.map(proxy -> proxy.getOwner().map(p -> p.getGateType().canSoldierActivate()).orElse(false)).orElse(true);
 		}
 		return (block instanceof BlockDoor && state.getMaterial() == Material.WOOD) || block instanceof BlockFenceGate;
@@ -156,7 +184,7 @@ public class PathWorldAccess {
 	}
 
 	protected boolean isLadder(BlockPos pos) {
-		Block block = world.getBlockState(pos).getBlock();
+		Block block = getBlock(pos);
 		return isLadder(block);
 	}
 